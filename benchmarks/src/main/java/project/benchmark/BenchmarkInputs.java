@@ -0,0 +1,32 @@
+package project.benchmark;
+
+import project.logic.GraphGenerator;
+
+/**
+ * Common inputs of the benchmarks. Graphs and systems are generated with the fixed seed, so
+ * every run measures the same work.
+ * @author Yaroslav
+ *
+ */
+final class BenchmarkInputs {
+
+	/**
+	 * Seed of the generated graphs and of the random choices of the measured operations.
+	 */
+	static final long SEED = 1;
+
+	/**
+	 * This class contains only static methods.
+	 */
+	private BenchmarkInputs() {
+	}
+
+	/**
+	 * Creates generator of the random graphs. Node weights are from 1 to 5, link weights are
+	 * from 1 to 50.
+	 * @return generator of the random graphs
+	 */
+	static GraphGenerator createGenerator() {
+		return new GraphGenerator(1, 5, 0, 0, 1, 50, 1);
+	}
+}
@@ -0,0 +1,105 @@
+package project.benchmark;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import project.logic.GNode;
+import project.logic.Graph;
+import project.logic.GraphGenerator;
+import project.logic.RandomSource;
+
+/**
+ * Benchmark of Graph.placeRandomLinks. Placed links connect the nodes, so the graph with the
+ * new nodes and the random source with the same seed are created before each call, and every
+ * call places the same links.
+ * @author Yaroslav
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinksBenchmark {
+
+	/**
+	 * Number of the graph nodes.
+	 */
+	@Param({"16", "64"})
+	public int size;
+
+	/**
+	 * Correlation of the graph.
+	 */
+	@Param({"0.3", "0.7"})
+	public double correlation;
+
+	/**
+	 * Generator of the graph nodes.
+	 */
+	private GraphGenerator generator;
+
+	/**
+	 * Weights of the links to place.
+	 */
+	private ArrayList<Integer> linkWeights;
+
+	/**
+	 * Graph without links of the next call.
+	 */
+	private Graph graph;
+
+	/**
+	 * Random source of the next call.
+	 */
+	private RandomSource random;
+
+	/**
+	 * Generates the weights of the links.
+	 */
+	@Setup
+	public void setUp() {
+		RandomSource weightsRandom = new RandomSource(BenchmarkInputs.SEED);
+		generator = BenchmarkInputs.createGenerator();
+		int nodeWeightSum = 0;
+		for (GNode gnode : generator.generateGNodes(size, weightsRandom)) {
+			nodeWeightSum += gnode.getTExe();
+		}
+		int linkWeightSum = (int)Math.round(nodeWeightSum * (1 / correlation - 1));
+		linkWeights = generator.generateLinkWeights(linkWeightSum, size, weightsRandom);
+	}
+
+	/**
+	 * Creates the graph nodes and the random source of the next call.
+	 */
+	@Setup(Level.Invocation)
+	public void createGraph() {
+		random = new RandomSource(BenchmarkInputs.SEED);
+		graph = new Graph();
+		graph.setGnodeList(generator.generateGNodes(size, random));
+	}
+
+	/**
+	 * Places the links.
+	 * @return graph with the links
+	 */
+	@Benchmark
+	public Graph links() {
+		graph.placeRandomLinks(linkWeights, random);
+		return graph;
+	}
+}
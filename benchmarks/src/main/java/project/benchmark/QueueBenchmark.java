@@ -0,0 +1,74 @@
+package project.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import project.logic.Graph;
+import project.logic.RandomSource;
+
+/**
+ * Benchmark of Graph.generateQueue for each queue type. The graph is generated once, each
+ * call builds the queue of the same graph.
+ * @author Yaroslav
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueBenchmark {
+
+	/**
+	 * Number of the graph nodes.
+	 */
+	@Param({"16", "64"})
+	public int size;
+
+	/**
+	 * Correlation of the graph.
+	 */
+	@Param({"0.3", "0.7"})
+	public double correlation;
+
+	/**
+	 * Queue type code.
+	 */
+	@Param({"1", "12", "16"})
+	public int queueType;
+
+	/**
+	 * Graph to build the queue of.
+	 */
+	private Graph graph;
+
+	/**
+	 * Generates the graph.
+	 */
+	@Setup
+	public void setUp() {
+		graph = BenchmarkInputs.createGenerator().generateRandomGraph(size, correlation, new RandomSource(BenchmarkInputs.SEED));
+	}
+
+	/**
+	 * Builds the queue.
+	 * @return ids of the graph nodes in the queue order
+	 */
+	@Benchmark
+	public int[] queue() {
+		graph.generateQueue(queueType, false);
+		return graph.getQueueOrder();
+	}
+}
@@ -0,0 +1,88 @@
+package project.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import project.logic.ComputerSystem;
+import project.logic.RoutingTable;
+
+/**
+ * Benchmarks of the routing:
+ * 1. routing - building of the routing table(shortest paths between all the nodes).
+ * 2. paths   - lookup of the shortest paths between all the pairs of the nodes.
+ * @author Yaroslav
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutingBenchmark {
+
+	/**
+	 * Topology of the computer system.
+	 */
+	@Param({"ring", "mesh", "star", "hypercube"})
+	public String topology;
+
+	/**
+	 * Number of the processors.
+	 */
+	@Param({"16"})
+	public int processors;
+
+	/**
+	 * Computer system to route.
+	 */
+	private ComputerSystem comSys;
+
+	/**
+	 * Routing table of the computer system.
+	 */
+	private RoutingTable routing;
+
+	/**
+	 * Creates the computer system and its routing table.
+	 */
+	@Setup
+	public void setUp() {
+		comSys = Topologies.create(topology, processors);
+		routing = comSys.getRoutingTable();
+	}
+
+	/**
+	 * Builds the routing table.
+	 * @return routing table
+	 */
+	@Benchmark
+	public RoutingTable routing() {
+		return new RoutingTable(comSys.getNodeList());
+	}
+
+	/**
+	 * Looks up the shortest paths between all the pairs of the nodes.
+	 * @param blackhole consumer of the paths
+	 */
+	@Benchmark
+	public void paths(Blackhole blackhole) {
+		for (int src = 0; src < routing.getSize(); src++) {
+			for (int dest = 0; dest < routing.getSize(); dest++) {
+				blackhole.consume(routing.getPathIds(src, dest));
+			}
+		}
+	}
+}
@@ -0,0 +1,147 @@
+package project.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import project.logic.ComputerSystem;
+import project.logic.Graph;
+import project.logic.RandomSource;
+import project.logic.ScheduleResult;
+import project.logic.ScheduleResultPool;
+import project.logic.SchedulingContext;
+
+/**
+ * Benchmark of ComputerSystem.loadTaskGraph for each topology, algorithm, number of links and
+ * duplex mode. Schedules are reused through the pool, like the modeling does. Random source
+ * is seeded again before each call, so algorithm 1 maps the nodes the same way every time.
+ * There are many combinations of the parameters, use -p to choose the needed ones.
+ * @author Yaroslav
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduleBenchmark {
+
+	/**
+	 * Topology of the computer system.
+	 */
+	@Param({"ring", "mesh", "star", "hypercube"})
+	public String topology;
+
+	/**
+	 * Number of the processors.
+	 */
+	@Param({"16"})
+	public int processors;
+
+	/**
+	 * Number of the graph nodes.
+	 */
+	@Param({"16", "64"})
+	public int size;
+
+	/**
+	 * Correlation of the graph.
+	 */
+	@Param({"0.3", "0.7"})
+	public double correlation;
+
+	/**
+	 * Algorithm code.
+	 */
+	@Param({"1", "5", "6"})
+	public int algorithm;
+
+	/**
+	 * Number of the physical links.
+	 */
+	@Param({"1", "2", "3", "4"})
+	public int links;
+
+	/**
+	 * Duplex/simplex flag.
+	 */
+	@Param({"false", "true"})
+	public boolean duplex;
+
+	/**
+	 * Minimum number of the processors for the parallel evaluation of the candidates.
+	 */
+	@Param({"1024"})
+	public int parallelThreshold;
+
+	/**
+	 * Computer system to schedule on.
+	 */
+	private ComputerSystem comSys;
+
+	/**
+	 * Task graph with the generated queue.
+	 */
+	private Graph graph;
+
+	/**
+	 * Parameters of the scheduling.
+	 */
+	private SchedulingContext context;
+
+	/**
+	 * Pool of the schedules.
+	 */
+	private ScheduleResultPool pool;
+
+	/**
+	 * Random source of the next call.
+	 */
+	private RandomSource random;
+
+	/**
+	 * Creates the computer system and the task graph.
+	 */
+	@Setup
+	public void setUp() {
+		comSys = Topologies.create(topology, processors);
+		comSys.setParallelThreshold(parallelThreshold);
+		comSys.getRoutingTable();
+		graph = BenchmarkInputs.createGenerator().generateRandomGraph(size, correlation, new RandomSource(BenchmarkInputs.SEED));
+		graph.generateQueue(1, false);
+		context = new SchedulingContext(algorithm, links, duplex);
+		pool = new ScheduleResultPool(1);
+	}
+
+	/**
+	 * Seeds the random source of the next call.
+	 */
+	@Setup(Level.Invocation)
+	public void seed() {
+		random = new RandomSource(BenchmarkInputs.SEED);
+	}
+
+	/**
+	 * Schedules the task graph.
+	 * @return total schedule time
+	 */
+	@Benchmark
+	public int schedule() {
+		ScheduleResult schedule = comSys.loadTaskGraph(graph, context, random, pool);
+		int makespan = schedule.findTotalScheduleTime();
+		pool.release(schedule);
+		return makespan;
+	}
+}
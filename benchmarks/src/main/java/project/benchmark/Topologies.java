@@ -0,0 +1,151 @@
+package project.benchmark;
+
+import project.logic.ComputerSystem;
+import project.logic.SystemLink;
+import project.logic.SystemNode;
+
+/**
+ * Builders of the computer systems with the typical topologies. Nodes are placed on the
+ * circle, coordinates are used only to display the system.
+ * @author Yaroslav
+ *
+ */
+public final class Topologies {
+
+	/**
+	 * Names of all the topologies.
+	 */
+	public static final String[] NAMES = {"ring", "mesh", "star", "hypercube"};
+
+	/**
+	 * This class contains only static methods.
+	 */
+	private Topologies() {
+	}
+
+	/**
+	 * Creates computer system with the specified topology.
+	 * @param name name of the topology(ring, mesh, star or hypercube)
+	 * @param processorsNumber number of the processors
+	 * @return computer system
+	 */
+	public static ComputerSystem create(String name, int processorsNumber) {
+		if (processorsNumber < 1) {
+			throw new IllegalArgumentException("Number of processors should be positive");
+		}
+		if (name.equals("ring")) {
+			return createRing(processorsNumber);
+		} else if (name.equals("mesh")) {
+			return createMesh(processorsNumber);
+		} else if (name.equals("star")) {
+			return createStar(processorsNumber);
+		} else if (name.equals("hypercube")) {
+			return createHypercube(processorsNumber);
+		}
+		throw new IllegalArgumentException("Unknown topology: " + name);
+	}
+
+	/**
+	 * Creates ring, each node is connected with the previous and the next nodes.
+	 * @param processorsNumber number of the processors
+	 * @return computer system
+	 */
+	public static ComputerSystem createRing(int processorsNumber) {
+		ComputerSystem comSys = new ComputerSystem();
+		SystemNode[] nodes = createNodes(comSys, processorsNumber);
+
+		for (int i = 1; i < processorsNumber; i++) {
+			connect(comSys, nodes[i - 1], nodes[i]);
+		}
+		if (processorsNumber > 2) {
+			connect(comSys, nodes[processorsNumber - 1], nodes[0]);
+		}
+		return comSys;
+	}
+
+	/**
+	 * Creates two-dimensional mesh. Number of the columns is the rounded square root of the
+	 * number of processors, the last row can be incomplete.
+	 * @param processorsNumber number of the processors
+	 * @return computer system
+	 */
+	public static ComputerSystem createMesh(int processorsNumber) {
+		ComputerSystem comSys = new ComputerSystem();
+		SystemNode[] nodes = createNodes(comSys, processorsNumber);
+		int columns = (int)Math.round(Math.sqrt(processorsNumber));
+
+		for (int i = 0; i < processorsNumber; i++) {
+			if ((i % columns != columns - 1) && (i + 1 < processorsNumber)) {
+				connect(comSys, nodes[i], nodes[i + 1]);
+			}
+			if (i + columns < processorsNumber) {
+				connect(comSys, nodes[i], nodes[i + columns]);
+			}
+		}
+		return comSys;
+	}
+
+	/**
+	 * Creates star, the first node is connected with all the other nodes.
+	 * @param processorsNumber number of the processors
+	 * @return computer system
+	 */
+	public static ComputerSystem createStar(int processorsNumber) {
+		ComputerSystem comSys = new ComputerSystem();
+		SystemNode[] nodes = createNodes(comSys, processorsNumber);
+
+		for (int i = 1; i < processorsNumber; i++) {
+			connect(comSys, nodes[0], nodes[i]);
+		}
+		return comSys;
+	}
+
+	/**
+	 * Creates hypercube, nodes are connected if their numbers differ in one bit.
+	 * @param processorsNumber number of the processors(power of two)
+	 * @return computer system
+	 */
+	public static ComputerSystem createHypercube(int processorsNumber) {
+		if (Integer.bitCount(processorsNumber) != 1) {
+			throw new IllegalArgumentException("Number of hypercube processors should be power of two: " + processorsNumber);
+		}
+		ComputerSystem comSys = new ComputerSystem();
+		SystemNode[] nodes = createNodes(comSys, processorsNumber);
+
+		for (int i = 0; i < processorsNumber; i++) {
+			for (int bit = 1; bit < processorsNumber; bit <<= 1) {
+				if ((i & bit) == 0) {
+					connect(comSys, nodes[i], nodes[i | bit]);
+				}
+			}
+		}
+		return comSys;
+	}
+
+	/**
+	 * Creates system nodes on the circle.
+	 * @param comSys computer system
+	 * @param processorsNumber number of the processors
+	 * @return created nodes
+	 */
+	private static SystemNode[] createNodes(ComputerSystem comSys, int processorsNumber) {
+		SystemNode[] nodes = new SystemNode[processorsNumber];
+		double alpha = 2 * Math.PI / processorsNumber;
+
+		for (int i = 0; i < processorsNumber; i++) {
+			nodes[i] = new SystemNode(comSys.generateIndex(), 300 + 200 * Math.cos(alpha * i), 300 - 200 * Math.sin(alpha * i));
+			comSys.addSystemNode(nodes[i]);
+		}
+		return nodes;
+	}
+
+	/**
+	 * Connects two system nodes.
+	 * @param comSys computer system
+	 * @param first first node
+	 * @param second second node
+	 */
+	private static void connect(ComputerSystem comSys, SystemNode first, SystemNode second) {
+		comSys.addSystemLink(new SystemLink(first, second));
+	}
+}
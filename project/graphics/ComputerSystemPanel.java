@@ -3,7 +3,6 @@ package project.graphics;
 import java.awt.BorderLayout;
 
 
-import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.event.ActionEvent;
@@ -13,15 +12,12 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseMotionAdapter;
 import java.awt.geom.Point2D;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 
 import javax.swing.*;
 
 import project.logic.ComputerSystem;
+import project.logic.ProjectFiles;
 import project.logic.SystemLink;
 import project.logic.SystemNode;
 
@@ -54,6 +50,11 @@ public class ComputerSystemPanel extends JPanel {
 	 */
 	private SystemNode startNode;
 	
+	/**
+	 * Painter of the system nodes and links.
+	 */
+	private SystemPainter painter;
+	
 	/**
 	 * This pointer is used when new system link is created. It points to 
 	 * the second node of the system link.
@@ -138,6 +139,7 @@ public class ComputerSystemPanel extends JPanel {
 	 */
 	public ComputerSystemPanel() {
 		computerSystem = new ComputerSystem();		
+		painter = new SystemPainter();
 		nodeList = computerSystem.getNodeList();
 		linkList = computerSystem.getLinkList();
 		current = null;
@@ -236,11 +238,11 @@ public class ComputerSystemPanel extends JPanel {
 		scaling();
 		
 		for (SystemLink link : linkList) {
-			link.paint(g);
+			painter.paintSystemLink(g, link);
 		}
 		
 		for (SystemNode node : nodeList) {
-			node.paint(g);		
+			painter.paintSystemNode(g, node, (node == startNode) ? SystemPainter.SELECTED_COLOR : SystemPainter.DEFAULT_COLOR);		
 		}
 	}
 	
@@ -289,17 +291,14 @@ public class ComputerSystemPanel extends JPanel {
 	 * coordinates.
 	 */
 	private void scaling() {		
-		SystemNode.size = 0.03 * (xMax + yMax);				
+		painter.setSize(0.03 * (xMax + yMax));				
 	}
 	
 	/**
 	 * Resets start node pointer.
 	 */
 	private void resetStartNode() {		
-		if (startNode != null) {			
-			startNode.setColor(Color.LIGHT_GRAY);
-			startNode = null;
-		}
+		startNode = null;
 	}
 	
 	/**
@@ -336,7 +335,7 @@ public class ComputerSystemPanel extends JPanel {
 	 */
 	private SystemNode findSystemNode(Point2D p) {		
 		for (SystemNode node : nodeList) {			
-			if (node.contains(p)) return node;
+			if (painter.contains(node, p)) return node;
 		}		
 		return null;
 	}
@@ -349,27 +348,11 @@ public class ComputerSystemPanel extends JPanel {
 	 */
 	private SystemLink findSystemLink(Point2D p) {		
 		for (SystemLink link : linkList) {			
-			if (link.contains(p)) return link;			
+			if (painter.contains(link, p)) return link;			
 		}
 		return null;
 	}
 	
-	/**
-	 * Finds all the system links connected to the specified system node.
-	 * @param node node to find its connections
-	 * @return array list of the system links
-	 */
-	private ArrayList<SystemLink> findSystemNodeConnections(SystemNode node) {		
-		ArrayList<SystemLink> connections = new ArrayList<SystemLink>();
-		
-		for (SystemLink link : linkList) {			
-			if (link.getFirstNode().equals(node) || link.getSecondNode().equals(node)) { 
-				connections.add(link);
-			}
-		}
-		return connections;
-	}	
-	
 	/**
 	 * Action class of the clear button.
 	 * @author Yaroslav
@@ -378,9 +361,7 @@ public class ComputerSystemPanel extends JPanel {
 	private class ClearAction implements ActionListener {
 		
 		public void actionPerformed(ActionEvent event) {			
-			nodeList.clear();
-			linkList.clear();
-			SystemNode.nextIndex = 0;
+			computerSystem.clear();
 			repaint();
 		}
 	}
@@ -430,10 +411,7 @@ public class ComputerSystemPanel extends JPanel {
 			
 			if (result == JFileChooser.APPROVE_OPTION) {				
 				try {					
-					ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(filename));					
-					out.writeObject(nodeList);
-					out.writeObject(linkList);
-					out.close();
+					ProjectFiles.writeComputerSystem(computerSystem, filename);
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
@@ -448,10 +426,8 @@ public class ComputerSystemPanel extends JPanel {
 	 */
 	private class OpenAction implements ActionListener {
 		
-		@SuppressWarnings("unchecked")
 		public void actionPerformed(ActionEvent event) {			
-			nodeList.clear();
-			linkList.clear();
+			computerSystem.clear();
 			
 			JFileChooser csr = new JFileChooser();
 			csr.setCurrentDirectory(new File("."));
@@ -464,13 +440,12 @@ public class ComputerSystemPanel extends JPanel {
 		
 			if (result == JFileChooser.APPROVE_OPTION) {				
 				try {
-					ObjectInputStream in = new ObjectInputStream(new FileInputStream(filename));					
-					nodeList = (ArrayList<SystemNode>)in.readObject();
-					linkList = (ArrayList<SystemLink>)in.readObject();
+					ComputerSystem loadedSystem = ProjectFiles.readComputerSystem(filename);
+					nodeList = loadedSystem.getNodeList();
+					linkList = loadedSystem.getLinkList();
 					computerSystem.setNodeList(nodeList);
 					computerSystem.setLinkList(linkList);
 					computerSystem.setNextIndex();
-					in.close();
 					repaint();
 				} catch (Exception e) {
 					e.printStackTrace();
@@ -524,8 +499,8 @@ public class ComputerSystemPanel extends JPanel {
 					
 					if (current == null) {										
 						try {						
-							current = new SystemNode(event.getX(), event.getY());
-							nodeList.add(current);
+							current = new SystemNode(computerSystem.generateIndex(), event.getX(), event.getY());
+							computerSystem.addSystemNode(current);
 							current = null;
 							repaint();							
 						} catch (NumberFormatException nfe) {
@@ -536,10 +511,6 @@ public class ComputerSystemPanel extends JPanel {
 					
 					if (startNode == null) {						
 						startNode = findSystemNode(event.getPoint());
-						
-						if (startNode != null) {							
-							startNode.setColor(new Color(255, 100, 100));
-						}
 						repaint();
 					} else {
 																
@@ -551,7 +522,7 @@ public class ComputerSystemPanel extends JPanel {
 									try {																			
 										SystemLink link = new SystemLink(startNode, endNode);
 										resetStartNode();									
-										linkList.add(link);
+										computerSystem.addSystemLink(link);
 										repaint();										
 									} catch (NumberFormatException nfe) {
 										JOptionPane.showMessageDialog(null, "Error!", "Error", JOptionPane.WARNING_MESSAGE);						
@@ -571,26 +542,13 @@ public class ComputerSystemPanel extends JPanel {
 					current = findSystemNode(event.getPoint());
 					
 					if (current != null) {						
-						ArrayList<SystemLink> linksToDelete = findSystemNodeConnections(current);
-						
-						for (SystemLink link : linksToDelete) {							
-							linkList.remove(link);
-						}
-						
-						if (!current.getNeighbours().isEmpty()) {							
-							for (SystemNode neighbour : current.getNeighbours()) {								
-								neighbour.getNeighbours().remove(current);
-							}
-						}					
-						nodeList.remove(current);
+						computerSystem.removeSystemNode(current);
 					}
 					
 					currentTr = findSystemLink(event.getPoint());
 					
 					if (currentTr != null) {						
-						currentTr.getFirstNode().getNeighbours().remove(currentTr.getSecondNode());
-						currentTr.getSecondNode().getNeighbours().remove(currentTr.getFirstNode());
-						linkList.remove(currentTr);
+						computerSystem.removeSystemLink(currentTr);
 					}					
 					repaint();
 				}				
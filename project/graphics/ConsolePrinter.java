@@ -1,24 +1,55 @@
 package project.graphics;
 
 import javax.swing.JTextArea;
+import javax.swing.SwingUtilities;
+
+import project.logic.MessagePrinter;
+import project.logic.ResultSink;
 
 /**
- * This class encapsulates methods to print console information messages.
+ * This class encapsulates methods to print console information messages. Messages are
+ * collected in the buffer and appended to the console by the single update on the event
+ * dispatch thread, so large reports cost linear time and printing is thread-safe.
  * @author Yaroslav
  *
  */
-public class ConsolePrinter {
-	
+public class ConsolePrinter implements MessagePrinter, ResultSink {
+
 	/**
 	 * A pointer to the console object.
 	 */
 	private JTextArea console;
-	
+
 	/**
 	 * Separator of the information blocks.
 	 */
 	private final String SEPARATOR = "\n----------------------------------------\n";
-	
+
+	/**
+	 * Text, which is not appended to the console yet.
+	 */
+	private final StringBuilder buffer = new StringBuilder();
+
+	/**
+	 * This flag is set when console should be cleared before the buffer is appended.
+	 */
+	private boolean clearPending;
+
+	/**
+	 * This flag is set when update of the console is already scheduled.
+	 */
+	private boolean updatePending;
+
+	/**
+	 * Update of the console on the event dispatch thread.
+	 */
+	private final Runnable update = new Runnable() {
+
+		public void run() {
+			flush();
+		}
+	};
+
 	/**
 	 * Main constructor
 	 * @param console console to use
@@ -26,45 +57,157 @@ public class ConsolePrinter {
 	public ConsolePrinter(JTextArea console) {
 		setConsole(console);
 	}
-	
+
 	/**
 	 * Prints separator.
 	 */
 	public void printSeparator() {
-		console.append(SEPARATOR);
+		append(SEPARATOR);
 	}
-	
+
 	/**
 	 * Appends the information message with separator after it.
 	 * @param message information message
 	 */
 	public void printBlock(String message) {
-		console.append(message + SEPARATOR);
+		append(message, SEPARATOR);
 	}
-	
+
 	/**
 	 * Appends the information message with "\n"(transport carriage) after it.
 	 * @param message information message
 	 */
 	public void println(String message) {
-		console.append(message + "\n");
+		append(message, "\n");
 	}
-	
+
 	/**
 	 * Simply appends information message.
 	 * @param message information message
 	 */
 	public void print(String message) {
-		console.append(message);
+		append(message);
 	}
-	
+
 	/**
 	 * Clears console.
 	 */
 	public void clearConsole() {
-		console.setText("");
+		synchronized (buffer) {
+			buffer.setLength(0);
+			clearPending = true;
+			scheduleUpdate();
+		}
+	}
+
+	/**
+	 * Prints the name of the table.
+	 */
+	public void startTable(String name, String[] labelNames, String[] columnNames) {
+		println(name);
+	}
+
+	/**
+	 * Prints the row of the table: text cells and then formatted values.
+	 */
+	public void writeRow(String[] labels, double[] values) {
+		StringBuilder row = new StringBuilder();
+
+		for (String label : labels) {
+			row.append(label).append("  ");
+		}
+		for (double value : values) {
+			row.append(String.format("%6.3f", value)).append("  ");
+		}
+		row.append('\n');
+		append(row);
+	}
+
+	/**
+	 * Tables have no ending in the console.
+	 */
+	public void endTable() {
+	}
+
+	/**
+	 * Prints the information message.
+	 */
+	public void writeMessage(String message) {
+		println(message);
+	}
+
+	/**
+	 * Console stays open, text is only appended.
+	 */
+	public void close() {
+		flushLater();
+	}
+
+	/**
+	 * Appends the buffered text to the console. It should be called on the event dispatch thread,
+	 * other threads can use {@link #flushLater()}.
+	 */
+	public void flush() {
+		String text;
+		boolean clear;
+
+		synchronized (buffer) {
+			text = buffer.toString();
+			clear = clearPending;
+			buffer.setLength(0);
+			clearPending = false;
+			updatePending = false;
+		}
+		if (clear) {
+			console.setText(text);
+		} else if (!text.isEmpty()) {
+			console.append(text);
+		}
+	}
+
+	/**
+	 * Schedules appending of the buffered text to the console on the event dispatch thread.
+	 */
+	public void flushLater() {
+		synchronized (buffer) {
+			scheduleUpdate();
+		}
 	}
-	
+
+	/**
+	 * Adds the text to the buffer.
+	 * @param text text to add
+	 */
+	private void append(CharSequence text) {
+		synchronized (buffer) {
+			buffer.append(text);
+			scheduleUpdate();
+		}
+	}
+
+	/**
+	 * Adds the message and its ending to the buffer.
+	 * @param message information message
+	 * @param ending text after the message
+	 */
+	private void append(String message, String ending) {
+		synchronized (buffer) {
+			buffer.append(message).append(ending);
+			scheduleUpdate();
+		}
+	}
+
+	/**
+	 * Schedules the update of the console if it is not scheduled yet. It is called with the
+	 * buffer lock held.
+	 */
+	private void scheduleUpdate() {
+		if (!updatePending) {
+			updatePending = true;
+			SwingUtilities.invokeLater(update);
+		}
+	}
+
 	/**
 	 * Accessor to the console field.
 	 * @return pointer to the console object
@@ -72,12 +215,12 @@ public class ConsolePrinter {
 	public JTextArea getConsole() {
 		return console;
 	}
-	
+
 	/**
 	 * Sets a value of a console field.
 	 * @param console pointer to the console object
 	 */
 	public void setConsole(JTextArea console) {
 		this.console = console;
-	}	
+	}
 }
@@ -4,15 +4,26 @@ import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JOptionPane;
+import javax.swing.JProgressBar;
 import javax.swing.JTextField;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 import project.logic.ComputerSystem;
 import project.logic.GraphGenerator;
+import project.logic.SweepListener;
+import project.logic.SweepResult;
 
 /**
  * A component, which contains random graphs generation tools.
@@ -36,6 +47,12 @@ public class GraphGeneratorPanel extends JPanel {
 	 */
 	private ConsolePanel consolePanel;
 	
+	/**
+	 * Printer of the console panel. All the messages are printed through it, so they 
+	 * appear in the console in the order of printing.
+	 */
+	private ConsolePrinter consolePrinter;
+	
 	/**
 	 * This check box specifies whether we generate single graph or multiple
 	 */
@@ -46,6 +63,21 @@ public class GraphGeneratorPanel extends JPanel {
 	 */
 	private JButton generate;
 	
+	/**
+	 * Button to stop the modeling.
+	 */
+	private JButton stop;
+	
+	/**
+	 * Progress of the modeling.
+	 */
+	private JProgressBar progressBar;
+	
+	/**
+	 * Background task of the current modeling, null if there is no modeling.
+	 */
+	private SweepWorker sweepWorker;
+	
 	/**
 	 * A pointer to the object of graph generator, which contains all the logic of
 	 * the graphs generation.
@@ -82,6 +114,7 @@ public class GraphGeneratorPanel extends JPanel {
 		randomGraphPanel.setBackground(Color.WHITE);
 		
 		consolePanel = new ConsolePanel();
+		consolePrinter = new ConsolePrinter(consolePanel.getConsole());
 		
 		fields = new ArrayList<>(); 
 		labels = new ArrayList<>();
@@ -124,6 +157,16 @@ public class GraphGeneratorPanel extends JPanel {
 		
 		inputPanel.add(generate);		
 		
+		stop = new JButton("Stop");
+		stop.setToolTipText("Stop the modeling");
+		stop.setEnabled(false);
+		stop.addActionListener(new StopAction());
+		inputPanel.add(stop);
+		
+		progressBar = new JProgressBar(0, 100);
+		progressBar.setStringPainted(true);
+		inputPanel.add(progressBar);
+		
 		add(inputPanel, BorderLayout.NORTH);
 		add(randomGraphPanel, BorderLayout.CENTER);
 		add(consolePanel, BorderLayout.SOUTH);		
@@ -146,7 +189,7 @@ public class GraphGeneratorPanel extends JPanel {
 			int graphsNumber = Integer.parseInt(fields.get(6).getText());
 			
 			graphGenerator = new GraphGenerator(minW, maxW, nodesNumber, correlation, minL, maxL, graphsNumber, 
-					randomGraphPanel, consolePanel.getConsole());
+					randomGraphPanel, consolePrinter);
 			
 			if (single.isSelected() == true) {
 				graphGenerator.generate();
@@ -156,7 +199,7 @@ public class GraphGeneratorPanel extends JPanel {
 				
 				switch(returnCode) {
 					case 0:
-						graphGenerator.generateMultipleGraphs(computerSystemPanel.getComputerSystem());
+						startModeling(comSys);
 						break;
 					case 1:
 						JOptionPane.showMessageDialog(null, "Add at least one node in the system!", "Error", JOptionPane.WARNING_MESSAGE);
@@ -168,4 +211,135 @@ public class GraphGeneratorPanel extends JPanel {
 			}			
 		}
 	}	
+	
+	/**
+	 * Starts the modeling in the background. Computer system is copied, so it can be edited 
+	 * during the modeling.
+	 * @param comSys computer system to model
+	 */
+	private void startModeling(ComputerSystem comSys) {
+		consolePrinter.clearConsole();
+		consolePrinter.println("Seed = " + graphGenerator.getSeed());
+		
+		generate.setEnabled(false);
+		stop.setEnabled(true);
+		progressBar.setValue(0);
+		
+		sweepWorker = new SweepWorker(graphGenerator, comSys.clone());
+		sweepWorker.addPropertyChangeListener(new PropertyChangeListener() {
+			
+			public void propertyChange(PropertyChangeEvent event) {
+				if ("progress".equals(event.getPropertyName())) {
+					progressBar.setValue((Integer)event.getNewValue());
+				}
+			}
+		});
+		sweepWorker.execute();
+	}
+	
+	/**
+	 * Action class of the stop button.
+	 * @author Yaroslav
+	 *
+	 */
+	private class StopAction implements ActionListener {
+		
+		public void actionPerformed(ActionEvent event) {
+			if (sweepWorker != null) {
+				sweepWorker.cancel(false);
+				stop.setEnabled(false);
+			}
+		}
+	}
+	
+	/**
+	 * Background task of the modeling. Rows of the matrices are printed to the console as soon
+	 * as they are completed, full matrices are printed at the end.
+	 * @author Yaroslav
+	 *
+	 */
+	private class SweepWorker extends SwingWorker<SweepResult, Integer> implements SweepListener {
+		
+		/**
+		 * Generator of the random graphs.
+		 */
+		private final GraphGenerator generator;
+		
+		/**
+		 * Copy of the computer system to model.
+		 */
+		private final ComputerSystem comSys;
+		
+		/**
+		 * Matrices of the modeling, they are set when the first row is completed.
+		 */
+		private volatile SweepResult partialResult;
+		
+		/**
+		 * Main constructor.
+		 * @param generator generator of the random graphs
+		 * @param comSys copy of the computer system to model
+		 */
+		public SweepWorker(GraphGenerator generator, ComputerSystem comSys) {
+			this.generator = generator;
+			this.comSys = comSys;
+		}
+		
+		/**
+		 * Runs the modeling. Generate button is enabled again only when the modeling has returned,
+		 * because after the cancellation done() is called at once, while the cells are still running.
+		 */
+		@Override
+		protected SweepResult doInBackground() {
+			try {
+				return generator.generateMultipleGraphs(comSys, this);
+			} finally {
+				SwingUtilities.invokeLater(new Runnable() {
+					
+					public void run() {
+						if (sweepWorker == SweepWorker.this) {
+							sweepWorker = null;
+							generate.setEnabled(true);
+							stop.setEnabled(false);
+						}
+					}
+				});
+			}
+		}
+		
+		@Override
+		public void cellCompleted(int completedCells, int cellsNumber) {
+			setProgress(100 * completedCells / cellsNumber);
+		}
+		
+		@Override
+		public void rowCompleted(int row, SweepResult result) {
+			partialResult = result;
+			publish(row);
+		}
+		
+		@Override
+		protected void process(List<Integer> rows) {
+			for (int row : rows) {
+				generator.printRow(partialResult, row);
+			}
+		}
+		
+		@Override
+		protected void done() {
+			try {
+				SweepResult result = get();
+				consolePrinter.printSeparator();
+				result.writeTo(consolePrinter);
+			} catch (CancellationException e) {
+				consolePrinter.printBlock("Modeling is cancelled");
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				consolePrinter.printBlock("Error! " + e.getCause());
+			} catch (IOException e) {
+				consolePrinter.printBlock("Error! " + e.getMessage());
+			}
+		}
+	}
 }
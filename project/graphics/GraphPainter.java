@@ -0,0 +1,191 @@
+package project.graphics;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+
+import project.logic.GLink;
+import project.logic.GNode;
+
+/**
+ * Graphical representation of the task graph. Graph nodes and transitions contain only
+ * coordinates, all the shapes, fonts and colors are created here, so the logic package
+ * doesn't need AWT.
+ * @author Yaroslav
+ *
+ */
+public class GraphPainter {
+
+	/**
+	 * Default color of the node.
+	 */
+	public static final Color DEFAULT_COLOR = Color.LIGHT_GRAY;
+
+	/**
+	 * Color of the node selected as the start of the new transition.
+	 */
+	public static final Color SELECTED_COLOR = new Color(255, 100, 100);
+
+	/**
+	 * Angle of the arrow relatively to the transition line.
+	 */
+	private static final double ARROW_ANGLE = Math.PI / 7;
+
+	/**
+	 * Component to paint on. Its background is used to create transition label.
+	 */
+	private final Component component;
+
+	/**
+	 * Radius of the node.
+	 */
+	private double r;
+
+	/**
+	 * Diameter of the node.
+	 */
+	private double d;
+
+	/**
+	 * Font of the node and transition labels.
+	 */
+	private Font font;
+
+	/**
+	 * Main constructor.
+	 * @param component component to paint on
+	 */
+	public GraphPainter(Component component) {
+		this.component = component;
+	}
+
+	/**
+	 * Sets the radius of the nodes.
+	 * @param r radius of the node
+	 */
+	public void setRadius(double r) {
+		if ((font == null) || (this.r != r)) {
+			this.r = r;
+			d = 2 * r;
+			font = new Font("SansSerif", Font.PLAIN, 14).deriveFont(0.3F * (float)d);
+		}
+	}
+
+	/**
+	 * This method is used to paint task graph node. It contains two parts: index on the top, and
+	 * execution time value on the bottom.
+	 * @param g paints graphics
+	 * @param gnode graph node
+	 * @param color color of the node
+	 */
+	public void paintGNode(Graphics g, GNode gnode, Color color) {
+		Graphics2D g2 = (Graphics2D)g;
+		double cx = gnode.cx;
+		double cy = gnode.cy;
+
+		g2.setStroke(new BasicStroke(2));
+		g2.setColor(color);
+		g2.fill(new Ellipse2D.Double(cx - r, cy - r, d, d));
+
+		g2.setColor(Color.BLACK);
+		g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		g2.draw(new Line2D.Double(cx - r, cy, cx + r, cy));
+		g2.draw(new Ellipse2D.Double(cx - r, cy - r, d, d));
+
+		g2.setFont(font);
+		FontRenderContext context = g2.getFontRenderContext();
+		Rectangle2D bounds = font.getStringBounds(gnode.getIndexStr(), context);
+		Rectangle2D bounds2 = font.getStringBounds(gnode.getTExeStr(), context);
+
+		double height = bounds.getHeight();
+		double width = bounds.getWidth();
+		double width2 = bounds2.getWidth();
+		double ascent = -bounds.getY();
+		double x = cx - r + (d - width) / 2;
+		double x2 = cx - r + (d - width2) / 2;
+		double y1 = cy - r + (d - height) / 2 + ascent - r / 2;
+		double y2 = cy - r + (d - height) / 2 + ascent + r / 2;
+		g2.drawString(gnode.getIndexStr(), (int)x, (int)y1);
+		g2.drawString(gnode.getTExeStr(), (int)x2, (int)y2);
+	}
+
+	/**
+	 * This method is used to paint transition on the workspace between two graph nodes.
+	 * It contains line, arrow and transition label.
+	 * @param g paints graphics
+	 * @param glink transition
+	 */
+	public void paintGLink(Graphics g, GLink glink) {
+		Graphics2D g2 = (Graphics2D)g;
+		String message = glink.getMessage();
+
+		g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+		double arrowSize = 0.25 * r;
+
+		g2.setFont(font);
+		FontRenderContext context = g2.getFontRenderContext();
+		Rectangle2D bounds = font.getStringBounds(message, context);
+		double height = bounds.getHeight();
+		double width = bounds.getWidth();
+		double ascent = -bounds.getY();
+
+		double x1 = glink.getStart().cx;
+		double y1 = glink.getStart().cy;
+		double x2 = glink.getEnd().cx;
+		double y2 = glink.getEnd().cy;
+
+		Line2D line = new Line2D.Double(x1, y1, x2, y2);
+		Rectangle2D lineRect = line.getBounds2D();
+		double cx = lineRect.getCenterX();
+		double cy = lineRect.getCenterY();
+		double msgX = cx - width / 2;
+		double msgY = cy - height / 2 + ascent;
+		Rectangle2D msgRect = new Rectangle2D.Double(msgX, cy - height / 2, width, height);
+
+		double beta = Math.atan2(y1 - y2, x2 - x1);
+		double x = cx + r * Math.cos(beta);
+		double y = cy - r * Math.sin(beta);
+		Line2D l1 = new Line2D.Double(x, y, x - arrowSize * Math.cos(ARROW_ANGLE + beta), y + arrowSize * Math.sin(ARROW_ANGLE + beta));
+		Line2D l2 = new Line2D.Double(x, y, x - arrowSize * Math.cos(beta - ARROW_ANGLE), y + arrowSize * Math.sin(beta - ARROW_ANGLE));
+		g2.draw(line);
+		g2.setPaint(component.getBackground());
+		g2.fill(msgRect);
+		g2.setColor(Color.BLACK);
+		g2.draw(l1);
+		g2.draw(l2);
+
+		g2.drawString(message, (int)msgX, (int)msgY);
+	}
+
+	/**
+	 * This method is used to check whether graph node contains specified point or not.
+	 * @param gnode graph node
+	 * @param p point to check
+	 * @return true if contains
+	 */
+	public boolean contains(GNode gnode, Point2D p) {
+		return new Ellipse2D.Double(gnode.cx - r, gnode.cy - r, d, d).contains(p);
+	}
+
+	/**
+	 * This method checks whether a small area arount the transition line contains
+	 * specified point or not.
+	 * @param glink transition
+	 * @param p point to check
+	 * @return true if contains
+	 */
+	public boolean contains(GLink glink, Point2D p) {
+		Line2D line = new Line2D.Double(glink.getStart().cx, glink.getStart().cy, glink.getEnd().cx, glink.getEnd().cy);
+		return line.intersects(new Rectangle2D.Double(p.getX() - 5, p.getY() - 5, 10, 10));
+	}
+}
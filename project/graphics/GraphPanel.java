@@ -2,7 +2,6 @@ package project.graphics;
 
 import java.awt.BorderLayout;
 
-import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.event.*;
@@ -11,6 +10,10 @@ import javax.swing.*;
 import project.logic.GLink;
 import project.logic.GNode;
 import project.logic.Graph;
+import project.logic.ProjectFiles;
+import project.logic.QueueStrategies;
+import project.logic.ScheduleResult;
+import project.logic.SchedulingContext;
 
 import java.awt.geom.*;
 import java.io.*;
@@ -60,6 +63,11 @@ public class GraphPanel extends JPanel {
 	 */
 	private GNode startNode;
 	
+	/**
+	 * Painter of the graph nodes and transitions.
+	 */
+	private GraphPainter painter;
+	
 	/**
 	 * This pointer is used when new transition is created. It points to 
 	 * the second node of the transition.
@@ -116,6 +124,11 @@ public class GraphPanel extends JPanel {
 	 */
 	private JComboBox assignAlgorithm;
 	
+	/**
+	 * This check box specifies whether algorithm 5 chooses processor with the earliest finish time.
+	 */
+	private JCheckBox earliestFinishBox;
+	
 	/**
 	 * This button is used to save task graph to file.
 	 */
@@ -145,7 +158,8 @@ public class GraphPanel extends JPanel {
 	 */
 	public GraphPanel(ComputerSystemPanel csPanel, ConsolePanel consolePanel, SchedulePanel schedulePanel) {
 		
-		graph = new Graph(consolePanel.getConsole());
+		graph = new Graph(new ConsolePrinter(consolePanel.getConsole()));
+		painter = new GraphPainter(this);
 		this.csPanel = csPanel;
 		this.schedulePanel = schedulePanel;
 		
@@ -182,9 +196,9 @@ public class GraphPanel extends JPanel {
 		queueType = new JComboBox<>();
 		queueType.setToolTipText("Select queue type here");
 		setComboBoxSize(queueType, 40, 25);		
-		queueType.addItem("1");
-		queueType.addItem("12");
-		queueType.addItem("16");
+		for (int code : QueueStrategies.getQueueTypes()) {
+			queueType.addItem(String.valueOf(code));
+		}
 		
 		loadTaskGraph = new JButton(new ImageIcon("icons/load_task_graph.png"));
 		loadTaskGraph.setToolTipText("Load task graph on a computer system");
@@ -198,8 +212,13 @@ public class GraphPanel extends JPanel {
 		assignAlgorithm.setMinimumSize(new Dimension(40, 24));*/
 		assignAlgorithm.addItem("1");
 		assignAlgorithm.addItem("5");
+		assignAlgorithm.addItem("6");
 		assignAlgorithm.setSelectedIndex(1);
 		
+		earliestFinishBox = new JCheckBox("EFT");
+		earliestFinishBox.setToolTipText("Algorithm 5 chooses processor, on which node finishes first");
+		earliestFinishBox.setSelected(false);
+		
 		save = new JButton(new ImageIcon("icons/save.png"));
 		save.setToolTipText("Save graph to file");
 		SaveAction s_a = new SaveAction();
@@ -227,6 +246,7 @@ public class GraphPanel extends JPanel {
 		bar.addSeparator(new Dimension(20, 20));
 		bar.add(loadTaskGraph);
 		bar.add(assignAlgorithm);
+		bar.add(earliestFinishBox);
 		bar.addSeparator(new Dimension(20, 20));
 		bar.add(save);
 		bar.add(open);
@@ -265,12 +285,12 @@ public class GraphPanel extends JPanel {
 		scaling();
 		
 		for (GLink trans : trsList) {		
-			trans.paint(g);
+			painter.paintGLink(g, trans);
 		}
 		
 		for (GNode gnode : gnodesList){
 			
-			gnode.paint(g);
+			painter.paintGNode(g, gnode, (gnode == startNode) ? GraphPainter.SELECTED_COLOR : GraphPainter.DEFAULT_COLOR);
 		}	
 	}
 	
@@ -313,32 +333,14 @@ public class GraphPanel extends JPanel {
 	 * Scales the size of the graph nodes relatively to the width of the screen.
 	 */
 	private void scaling() {		
-		GNode.r = 0.03 * getWidth();
-		GNode.d = 2 * GNode.r;
+		painter.setRadius(0.03 * getWidth());
 	}	
 	
 	/**
 	 * Resets start node value to null.
 	 */
 	private void resetStartNode() {		
-		if (startNode != null) {			
-			startNode.setColor(Color.LIGHT_GRAY);
-			startNode = null;
-		}
-	}
-	
-	/**
-	 * Checks whether two graph nodes are connected or not.
-	 * @param start first node
-	 * @param end second node
-	 * @return true if two nodes are connected
-	 */
-	private boolean areConnected(GNode start, GNode end) {		
-		for (GLink t : trsList) {			 
-			if (t.getStart().equals(start) && t.getEnd().equals(end)) return true;
-			if (t.getEnd().equals(start) && t.getStart().equals(end)) return true;
-		}
-		return false;
+		startNode = null;
 	}
 	
 	/**
@@ -347,10 +349,7 @@ public class GraphPanel extends JPanel {
 	 * @return true if such node exists
 	 */
 	public boolean checkCoincidence(int index) {		
-		for (GNode g : gnodesList) {			
-			if (g.getIndex() == index) return true;
-		}
-		return false;
+		return graph.getGNodeByIndex(index) != null;
 	}
 	
 	/**
@@ -361,7 +360,7 @@ public class GraphPanel extends JPanel {
 	 */
 	private GNode findGNode(Point2D p) {		
 		for (GNode gnode : gnodesList) {			
-			if (gnode.contains(p)) return gnode;
+			if (painter.contains(gnode, p)) return gnode;
 		}		
 		return null;
 	}
@@ -374,25 +373,11 @@ public class GraphPanel extends JPanel {
 	 */
 	private GLink findTransition(Point2D p) {		
 		for (GLink t : trsList) {			
-			if (t.contains(p)) return t;			
+			if (painter.contains(t, p)) return t;			
 		}
 		return null;
 	}
 	
-	/**
-	 * Searches all the transitions of the specified node
-	 * @param g graph node
-	 * @return array list of the found transitions
-	 */
-	private ArrayList<GLink> findGNodeConnections(GNode g) {		
-		ArrayList<GLink> connections = new ArrayList<GLink>();
-		
-		for (GLink t : trsList) {			
-			if (t.getStart().equals(g) || t.getEnd().equals(g)) connections.add(t);
-		}
-		return connections;
-	}	
-	
 	/**
 	 * Action class of the clear button. Contains the handler method clicking on the button.
 	 * @author Yaroslav
@@ -401,9 +386,7 @@ public class GraphPanel extends JPanel {
 	private class ClearAction implements ActionListener {
 		
 		public void actionPerformed(ActionEvent event) {			
-			gnodesList.clear();
-			trsList.clear();
-			GNode.nextIndex = 0;
+			graph.clear();
 			repaint();
 		}
 	} 
@@ -472,8 +455,10 @@ public class GraphPanel extends JPanel {
 					int linksNumber = Integer.parseInt((String)(csPanel.getLinksNumber().getSelectedItem()));
 					boolean isDuplex = csPanel.getDuplexBox().isSelected();
 					graph.generateQueue(typeOfQueue, true);
-					csPanel.getComputerSystem().loadTaskGraph(graph, algorythm, linksNumber, isDuplex);
-					schedulePanel.setSystemNodesList(csPanel.getComputerSystem().getNodeList());
+					SchedulingContext context = new SchedulingContext(algorythm, linksNumber, isDuplex, 
+							earliestFinishBox.isSelected(), null);
+					ScheduleResult schedule = csPanel.getComputerSystem().loadTaskGraph(graph, context);
+					schedulePanel.setScheduleResult(schedule);
 					break;
 				case 1:
 					JOptionPane.showMessageDialog(null, "Add at least one node in the system!", "Error", JOptionPane.WARNING_MESSAGE);
@@ -511,10 +496,7 @@ public class GraphPanel extends JPanel {
 			
 			if (result == JFileChooser.APPROVE_OPTION) {				
 				try {					
-					ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(filename));					
-					out.writeObject(gnodesList);
-					out.writeObject(trsList);
-					out.close();
+					ProjectFiles.writeGraph(graph, filename);
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
@@ -529,10 +511,8 @@ public class GraphPanel extends JPanel {
 	 */
 	private class OpenAction implements ActionListener {
 		
-		@SuppressWarnings("unchecked")
 		public void actionPerformed(ActionEvent event) {			
-			gnodesList.clear();
-			trsList.clear();
+			graph.clear();
 			
 			JFileChooser csr = new JFileChooser();
 			csr.setCurrentDirectory(new File("."));
@@ -545,13 +525,12 @@ public class GraphPanel extends JPanel {
 		
 			if (result == JFileChooser.APPROVE_OPTION) {				
 				try {
-					ObjectInputStream in = new ObjectInputStream(new FileInputStream(filename));					
-					gnodesList = (ArrayList<GNode>)in.readObject();
-					trsList = (ArrayList<GLink>)in.readObject();
+					Graph loadedGraph = ProjectFiles.readGraph(filename);
+					gnodesList = loadedGraph.getGnodeList();
+					trsList = loadedGraph.getGlinkList();
 					graph.setGnodeList(gnodesList);
 					graph.setGlinkList(trsList);
 					graph.setNextIndex();
-					in.close();
 					repaint();
 				} catch (Exception e) {
 					e.printStackTrace();
@@ -574,7 +553,7 @@ public class GraphPanel extends JPanel {
 				int index = Integer.parseInt(indexStr);
 				
 				if (checkCoincidence(index) == false) {				
-					current.setIndex(index);	
+					graph.setGNodeIndex(current, index);	
 					repaint();
 				} else {
 					JOptionPane.showMessageDialog(null, "Try another index!", "Error", JOptionPane.WARNING_MESSAGE);
@@ -650,8 +629,8 @@ public class GraphPanel extends JPanel {
 						if (tExeStr != null) {
 							try {						
 								int tExe = Integer.parseInt(tExeStr);							
-								current = new GNode(tExe, event.getX(), event.getY());
-								gnodesList.add(current);
+								current = new GNode(tExe, graph.generateIndex(), event.getX(), event.getY());
+								graph.addGNode(current);
 								current = null;
 								repaint();							
 							} catch (NumberFormatException nfe) {
@@ -662,17 +641,13 @@ public class GraphPanel extends JPanel {
 				} else if (newTransition.getModel().isSelected()) {					
 					if (startNode == null) {						
 						startNode = findGNode(event.getPoint());
-						
-						if (startNode != null) {							
-							startNode.setColor(new Color(255, 100, 100));
-						}
 						repaint();
 					} else {																
 						endNode = findGNode(event.getPoint());
 						
 						if (endNode != null) {							
 							if (!startNode.equals(endNode)) {								
-								if (!areConnected(startNode, endNode)) {									
+								if (!graph.areConnected(startNode, endNode)) {									
 									String tComStr = (String)JOptionPane.showInputDialog(null, "Eneter the transition com time:", "Transition com time", 
 											JOptionPane.QUESTION_MESSAGE, null, null, "1");
 									if (tComStr != null) {
@@ -680,7 +655,7 @@ public class GraphPanel extends JPanel {
 											int tCom = Integer.parseInt(tComStr);										
 											GLink t = new GLink(tCom, startNode, endNode);
 											resetStartNode();									
-											trsList.add(t);
+											graph.addGLink(t);
 											repaint();										
 										} catch (NumberFormatException nfe) {
 											JOptionPane.showMessageDialog(null, "Error!", "Error", JOptionPane.WARNING_MESSAGE);						
@@ -701,33 +676,13 @@ public class GraphPanel extends JPanel {
 					current = findGNode(event.getPoint());
 					
 					if (current != null) {						
-						ArrayList<GLink> linksToDelete = findGNodeConnections(current);
-						
-						for (GLink t : linksToDelete) {							
-							trsList.remove(t);
-						}
-						
-						if (!current.getPrev().isEmpty()) {							
-							for (GNode prevNode : current.getPrev()) {
-								prevNode.getNext().remove(current);
-							}
-						}
-						
-						if (!current.getNext().isEmpty()) {							
-							for (GNode nextNode : current.getNext()) {								
-								nextNode.getPrev().remove(current);
-							}
-						}						
-						
-						gnodesList.remove(current);
+						graph.removeGNode(current);
 					}
 					
 					currentTr = findTransition(event.getPoint());
 					
 					if (currentTr != null) {						
-						currentTr.getStart().getNext().remove(currentTr.getEnd());
-						currentTr.getEnd().getPrev().remove(currentTr.getStart());
-						trsList.remove(currentTr);
+						graph.removeGLink(currentTr);
 					}					
 					repaint();
 				}				
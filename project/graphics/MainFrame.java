@@ -5,7 +5,6 @@ import java.awt.Color;
 import java.awt.Frame;
 import javax.swing.*;
 
-import project.logic.GLink;
 
 /**
  * Main component, on which other components are located.
@@ -50,7 +49,6 @@ public class MainFrame extends JFrame {
 		
 		graphPanel = new GraphPanel(computerSystemPanel, consolePanel, schedulePanel);
 		graphPanel.setBackground(Color.WHITE);
-		GLink.condition_color = graphPanel.getBackground();						
 		
 		Box horizontalBox = Box.createHorizontalBox();
 		horizontalBox.add(Box.createHorizontalStrut(10));
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import javax.swing.JPanel;
 import project.logic.GLink;
 import project.logic.GNode;
+import project.logic.GraphView;
 
 /**
  * This component is used to graphically display randomly generated
@@ -12,7 +13,7 @@ import project.logic.GNode;
  * @author Yaroslav
  *
  */
-public class RandomGraphPanel extends JPanel {		
+public class RandomGraphPanel extends JPanel implements GraphView {		
 	
 	/**
 	 * Maximum X coordinate.
@@ -55,12 +56,18 @@ public class RandomGraphPanel extends JPanel {
 	 */
 	private ArrayList<GLink> linkList;		
 	
+	/**
+	 * Painter of the graph nodes and transitions.
+	 */
+	private GraphPainter painter;
+	
 	/**
 	 * Main constructor.
 	 */
 	public RandomGraphPanel() {		
 		gnodeList = new ArrayList<GNode>();
 		linkList = new ArrayList<GLink>();					
+		painter = new GraphPainter(this);
 	}
 	
 	/**
@@ -78,11 +85,11 @@ public class RandomGraphPanel extends JPanel {
 		scaling();
 		
 		for (GLink link : linkList) {
-			link.paint(g);
+			painter.paintGLink(g, link);
 		}
 		
 		for (GNode gnode : gnodeList) {
-			gnode.paint(g);
+			painter.paintGNode(g, gnode, GraphPainter.DEFAULT_COLOR);
 		}
 	}
 	
@@ -131,8 +138,7 @@ public class RandomGraphPanel extends JPanel {
 	 * Scales the size of the graph nodes relatively to the height of the screen.
 	 */
 	public void scaling() {	
-		GNode.r = 0.05 * yMax;
-		GNode.d = 2 * GNode.r;		
+		painter.setRadius(0.05 * yMax);		
 		R = 0.3 * yMax;			
 		setCoordinates();
 	}	
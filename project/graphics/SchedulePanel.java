@@ -6,10 +6,10 @@ import java.awt.font.FontRenderContext;
 import java.awt.geom.*;
 import java.util.ArrayList;
 import javax.swing.JPanel;
-import project.logic.ComputerSystem;
 import project.logic.DataTransmission;
 import project.logic.GNode;
 import project.logic.ProcessorLink;
+import project.logic.ScheduleResult;
 import project.logic.SystemNode;
 
 /**
@@ -104,15 +104,14 @@ public class SchedulePanel extends JPanel {
 	private Line2D startLine;	
 	
 	/**
-	 * List of the computer system nodes.
+	 * Displayed schedule, null if nothing is scheduled yet.
 	 */
-	private ArrayList<SystemNode> systemNodesList;
+	private ScheduleResult schedule;
 	
 	/**
 	 * Main constructor.
 	 */
 	public SchedulePanel() {			
-		systemNodesList = new ArrayList<>();
 	}
 	
 	/**
@@ -125,7 +124,7 @@ public class SchedulePanel extends JPanel {
 		xMax = getWidth();
 		yMax = getHeight();	
 		
-		if (!systemNodesList.isEmpty()) {			
+		if ((schedule != null) && (N > 0)) {			
 			paintDiagram(g2);
 			paintStartLine(g2);
 		} else {
@@ -134,12 +133,12 @@ public class SchedulePanel extends JPanel {
 	}
 	
 	/**
-	 * Sets a value of a system nodes list field.
-	 * @param systemNodesList computer system nodes list
+	 * Sets a value of a schedule field. Processors are displayed in the order of their priority.
+	 * @param schedule schedule to display
 	 */
-	public void setSystemNodesList(ArrayList<SystemNode> systemNodesList) {
-		this.systemNodesList = systemNodesList;
-		N = systemNodesList.size();		
+	public void setScheduleResult(ScheduleResult schedule) {
+		this.schedule = schedule;
+		N = schedule.getProcessorsNumber();		
 		repaint();
 	}
 	
@@ -186,15 +185,14 @@ public class SchedulePanel extends JPanel {
 	}	
 	
 	/**
-	 * Main method to paint schedule diagram. It uses the data from the computer system nodes 
-	 * objects.
+	 * Main method to paint schedule diagram. It uses the data from the schedule result.
 	 * @param g2 object, which paints graphics
 	 */
 	private void paintDiagram(Graphics2D g2) {
 		maxTactNumber = findMaxTactNumber();
 		tactWidth = (xMax - LEFT_INTEND - RIGHT_INTEND) / maxTactNumber;
 		nodeSectionHeight = (yMax - TOP_INTEND - BOTTOM_INTEND) / N;
-		int subsectionsNumber = ComputerSystem.processorLinkNumber + 1;		
+		int subsectionsNumber = findMaxLinksNumber() + 1;		
 		tactHeight = nodeSectionHeight / subsectionsNumber;
 		
 		paintScale(g2, maxTactNumber);				
@@ -205,7 +203,8 @@ public class SchedulePanel extends JPanel {
 		FontRenderContext context = g2.getFontRenderContext();
 		
 		for (int i = 0; i < N; i++) {
-			SystemNode sysNode = systemNodesList.get(i);
+			int processor = schedule.getProcessorByPriority(i);
+			SystemNode sysNode = schedule.getSystemNode(processor);
 			String systemNodeIndexStr = sysNode.getIndexStr();
 			
 			Rectangle2D bounds = f.getStringBounds(systemNodeIndexStr, context);			
@@ -220,8 +219,9 @@ public class SchedulePanel extends JPanel {
 			
 			g2.setStroke(new BasicStroke(1.0F));
 			
-			for (GNode gnode : sysNode.getScheduledNodes()) {
-				double xTask = LEFT_INTEND + gnode.getStartTime() * tactWidth;
+			for (int id : schedule.getScheduledGNodes(processor)) {
+				GNode gnode = schedule.getGNode(id);
+				double xTask = LEFT_INTEND + schedule.getStartTime(id) * tactWidth;
 				double yTask = TOP_INTEND + nodeSectionHeight * i;				
 				double taskWidth = gnode.getTExe() * tactWidth;
 				String taskText = gnode.getIndexStr();				
@@ -230,7 +230,7 @@ public class SchedulePanel extends JPanel {
 			
 			ArrayList<DataTransmission> scheduledTransmissions = new ArrayList<>();
 			
-			for (ProcessorLink pLink : sysNode.getProcessorLinks()) {
+			for (ProcessorLink pLink : schedule.getProcessorLinks(processor)) {
 				ArrayList<DataTransmission> transmissions = pLink.getScheduledTransmissions();
 				for (DataTransmission transmission : transmissions) {
 					scheduledTransmissions.add(transmission);
@@ -310,19 +310,14 @@ public class SchedulePanel extends JPanel {
 	 * @return maximum tacts number value
 	 */
 	private int findMaxTactNumber() {
-		int[] totalTimeArray = new int[systemNodesList.size()];
-		
-		for (int i = 0; i < totalTimeArray.length; i++) {
-			totalTimeArray[i] = systemNodesList.get(i).getLastTaskEndTime();			
-		}
-		
-		int maxTactNumber = totalTimeArray[0];
-		
-		for (int i = 1; i < totalTimeArray.length; i++) {
-			if (totalTimeArray[i] > maxTactNumber) {
-				maxTactNumber = totalTimeArray[i];
-			}
-		}		
-		return maxTactNumber;
+		return schedule.findTotalScheduleTime();
+	}
+	
+	/**
+	 * This method is used to find maximum number of the physical links to build diagram.
+	 * @return maximum links number(at least 1)
+	 */
+	private int findMaxLinksNumber() {
+		return schedule.getContext().getLinksNumber();
 	}
 }
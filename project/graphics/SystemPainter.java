@@ -0,0 +1,128 @@
+package project.graphics;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.Line2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+
+import project.logic.SystemLink;
+import project.logic.SystemNode;
+
+/**
+ * Graphical representation of the computer system. System nodes and links contain only
+ * coordinates, all the shapes, fonts and colors are created here.
+ * @author Yaroslav
+ *
+ */
+public class SystemPainter {
+
+	/**
+	 * Default color of the node.
+	 */
+	public static final Color DEFAULT_COLOR = Color.LIGHT_GRAY;
+
+	/**
+	 * Color of the node selected as the start of the new link.
+	 */
+	public static final Color SELECTED_COLOR = new Color(255, 100, 100);
+
+	/**
+	 * This is the size of system node rectangle side.
+	 */
+	private double size;
+
+	/**
+	 * Font of the node labels.
+	 */
+	private Font font;
+
+	/**
+	 * Sets the size of the nodes.
+	 * @param size size of system node rectangle side
+	 */
+	public void setSize(double size) {
+		if ((font == null) || (this.size != size)) {
+			this.size = size;
+			font = new Font("SansSerif", Font.PLAIN, 14).deriveFont(0.3F * (float)size);
+		}
+	}
+
+	/**
+	 * Paints the graphical representation of the system node.
+	 * @param g paints graphics
+	 * @param node system node
+	 * @param color color of the node
+	 */
+	public void paintSystemNode(Graphics g, SystemNode node, Color color) {
+		Graphics2D g2 = (Graphics2D)g;
+		Rectangle2D rect = new Rectangle2D.Double(node.cx - size / 2, node.cy - size / 2, size, size);
+
+		g2.setStroke(new BasicStroke(2));
+		g2.setColor(color);
+		g2.fill(rect);
+		g2.setColor(Color.BLACK);
+		g2.draw(rect);
+
+		g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+		g2.setFont(font);
+		FontRenderContext context = g2.getFontRenderContext();
+		Rectangle2D bounds = font.getStringBounds(node.getIndexStr(), context);
+
+		double height = bounds.getHeight();
+		double width = bounds.getWidth();
+		double ascent = -bounds.getY();
+		double x = node.cx - size / 2 + (size - width) / 2;
+		double y = node.cy - size / 2 + (size - height) / 2 + ascent;
+
+		g2.drawString(node.getIndexStr(), (int)x, (int)y);
+	}
+
+	/**
+	 * Paints system link on the workspace.
+	 * @param g paints graphics
+	 * @param link system link
+	 */
+	public void paintSystemLink(Graphics g, SystemLink link) {
+		Graphics2D g2 = (Graphics2D)g;
+
+		g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		g2.setColor(Color.BLACK);
+		g2.draw(createLine(link));
+	}
+
+	/**
+	 * Checks whether system node rectangle contains specified point or not.
+	 * @param node system node
+	 * @param p point to check
+	 * @return true if contains
+	 */
+	public boolean contains(SystemNode node, Point2D p) {
+		return new Rectangle2D.Double(node.cx - size / 2, node.cy - size / 2, size, size).contains(p);
+	}
+
+	/**
+	 * Checks whether system link contains specified point or not.
+	 * @param link system link
+	 * @param p point to check
+	 * @return true if contains
+	 */
+	public boolean contains(SystemLink link, Point2D p) {
+		return createLine(link).intersects(new Rectangle2D.Double(p.getX() - 5, p.getY() - 5, 10, 10));
+	}
+
+	/**
+	 * Creates line between the centers of the linked nodes.
+	 * @param link system link
+	 * @return line of the link
+	 */
+	private static Line2D createLine(SystemLink link) {
+		return new Line2D.Double(link.getFirstNode().cx, link.getFirstNode().cy, link.getSecondNode().cx, link.getSecondNode().cy);
+	}
+}
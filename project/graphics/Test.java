@@ -1,8 +1,6 @@
-package project.logic;
+package project.graphics;
 import javax.swing.*;
 
-import project.graphics.MainFrame;
-
 public class Test {
 	
 	public static void main(String[] args) {		
@@ -3,7 +3,8 @@ package project.logic;
 /**
  * This is class container of the information about the assigning algorithm type.
  * It is possible to assign task graph to the computer system using 6 different algorithms,
- * which are based on the queue type of the task graph nodes and scheduling algorithm.
+ * which are based on the queue type of the task graph nodes and scheduling algorithm, and HEFT
+ * algorithm, which orders the nodes by itself.
  * @author Yaroslav
  *
  */
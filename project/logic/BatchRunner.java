@@ -0,0 +1,265 @@
+package project.logic;
+
+import java.io.IOException;
+
+import javax.management.JMException;
+
+/**
+ * Command line entry point for the scheduling and modeling without user interface.
+ * Nothing here uses Swing, so it can be run on the servers with -Djava.awt.headless=true.
+ * Commands:
+ * 1. schedule - loads task graphs and computer system from the files, schedules each graph
+ * with all the combinations of the queue types, algorithms, links numbers and duplex flags
+ * and writes makespan, Kp, Ke and Kea of each run to the "schedule" table.
+ * 2. sweep - models the computer system on the random task graphs like the multiple graphs
+ * generation does and writes Kp, Ke and Kea matrices to the tables with the same names.
+ * Tables are written to the CSV files "PREFIX-table.csv" or to the single binary file "PREFIX.bin".
+ * With "--statistics true" times of the scheduling phases and counters of the scheduler are
+ * collected, published through JMX during the run and written to the "statistics" table.
+ * @author Yaroslav
+ *
+ */
+public final class BatchRunner {
+
+	/**
+	 * Exit code of the wrong command line.
+	 */
+	private static final int USAGE_ERROR = 2;
+
+	/**
+	 * Exit code of the reading or writing error.
+	 */
+	private static final int IO_ERROR = 1;
+
+	/**
+	 * Command line help.
+	 */
+	private static final String USAGE =
+			"Usage:\n"
+			+ "  schedule --system FILE --graph FILE[,FILE...] --out PREFIX [--format csv|binary]\n"
+			+ "           [--queues 1,12,16] [--algorithms 1,5] [--links 1] [--duplex false] [--seed N]\n"
+			+ "           [--eft false] [--statistics false]\n"
+			+ "  sweep    --system FILE --out PREFIX [--format csv|binary]\n"
+			+ "           [--minW 1] [--maxW 5] [--minL 1] [--maxL 50] [--samples 5] [--threads N] [--seed N]\n"
+			+ "           [--eft false] [--statistics false]\n"
+			+ "Algorithms: 1, 5 or 6(HEFT). With --eft true algorithm 5 chooses processor, on which node finishes first.\n"
+			+ "CSV format writes PREFIX-schedule.csv or PREFIX-kp.csv, PREFIX-ke.csv and PREFIX-kea.csv,\n"
+			+ "binary format writes PREFIX.bin.";
+
+	/**
+	 * Options of the command line.
+	 */
+	private final CommandLineOptions options;
+
+	/**
+	 * Main constructor.
+	 * @param options options of the command line
+	 */
+	private BatchRunner(CommandLineOptions options) {
+		this.options = options;
+	}
+
+	/**
+	 * Entry point.
+	 * @param args command and its options
+	 */
+	public static void main(String[] args) {
+		try {
+			if (args.length == 0) {
+				throw new IllegalArgumentException("Command is not specified");
+			}
+			BatchRunner runner = new BatchRunner(new CommandLineOptions(args, 1));
+			if (args[0].equals("schedule")) {
+				runner.schedule();
+			} else if (args[0].equals("sweep")) {
+				runner.sweep();
+			} else {
+				throw new IllegalArgumentException("Unknown command: " + args[0]);
+			}
+		} catch (IllegalArgumentException e) {
+			System.err.println("Error! " + e.getMessage());
+			System.err.println(USAGE);
+			System.exit(USAGE_ERROR);
+		} catch (IOException e) {
+			System.err.println("Error! " + e.getMessage());
+			System.exit(IO_ERROR);
+		}
+	}
+
+	/**
+	 * Schedules each task graph with all the combinations of the specified parameters.
+	 * @throws IOException if files can't be read or written
+	 */
+	private void schedule() throws IOException {
+		ComputerSystem comSys = readComputerSystem();
+		String[] graphFiles = options.getRequired("graph").split(",");
+		int[] queueTypes = options.getIntList("queues", "1,12,16");
+		int[] algorythms = options.getIntList("algorithms", "1,5");
+		int[] linksNumbers = options.getIntList("links", "1");
+		boolean[] duplexFlags = options.getBooleanList("duplex", "false");
+		boolean earliestFinish = options.getBooleanList("eft", "false")[0];
+		RandomSource random = new RandomSource(options.getLong("seed", System.nanoTime()));
+		SchedulerStatistics statistics = createStatistics("schedule");
+		Graph[] graphs = new Graph[graphFiles.length];
+
+		for (int queueType : queueTypes) {
+			if (QueueStrategies.get(queueType) == null) {
+				throw new IllegalArgumentException("Unknown queue type: " + queueType);
+			}
+		}
+		for (int algorythm : algorythms) {
+			SchedulingContext.checkAlgorythmType(algorythm);
+		}
+		for (int linksNumber : linksNumbers) {
+			SchedulingContext.checkLinksNumber(linksNumber);
+		}
+
+		for (int i = 0; i < graphFiles.length; i++) {
+			graphs[i] = ProjectFiles.readGraph(graphFiles[i]);
+			if (graphs[i].getGnodeList().isEmpty()) {
+				throw new IllegalArgumentException("Task graph is empty: " + graphFiles[i]);
+			}
+			if ((Boolean)graphs[i].checkCycles()[0]) {
+				throw new IllegalArgumentException("Task graph contains cycles: " + graphFiles[i]);
+			}
+		}
+
+		try (ResultSink sink = createSink()) {
+			String[] labels = new String[6];
+			double[] values = new double[3];
+			sink.startTable("schedule", new String[] {"graph", "queue", "algorithm", "links", "duplex", "makespan"}, 
+					new String[] {"kp", "ke", "kea"});
+
+			for (int i = 0; i < graphs.length; i++) {
+				Graph graph = graphs[i];
+				int oneProcessorTime = graph.calculateOneProcessorExeTime();
+				int criticalTime = graph.calculateCriticalTime();
+
+				for (int queueType : queueTypes) {
+					long time = SchedulerStatistics.start(statistics);
+					graph.generateQueue(queueType, false);
+					if (statistics != null) {
+						SchedulerStatistics queueStatistics = new SchedulerStatistics();
+						queueStatistics.stop(SchedulerStatistics.QUEUE_BUILDING, time);
+						statistics.addAll(queueStatistics);
+					}
+					for (int algorythm : algorythms) {
+						for (int linksNumber : linksNumbers) {
+							for (boolean duplex : duplexFlags) {
+								SchedulingContext context = new SchedulingContext(algorythm, linksNumber, duplex, earliestFinish, 
+											statistics);
+								ScheduleResult schedule = comSys.loadTaskGraph(graph, context, random.split());
+								int makespan = schedule.findTotalScheduleTime();
+								labels[0] = graphFiles[i];
+								labels[1] = String.valueOf(queueType);
+								labels[2] = String.valueOf(algorythm);
+								labels[3] = String.valueOf(linksNumber);
+								labels[4] = String.valueOf(duplex);
+								labels[5] = String.valueOf(makespan);
+								values[0] = (double)oneProcessorTime / makespan;
+								values[1] = values[0] / schedule.getProcessorsNumber();
+								values[2] = (double)criticalTime / makespan;
+								sink.writeRow(labels, values);
+							}
+						}
+					}
+				}
+			}
+			sink.endTable();
+			if (statistics != null) {
+				statistics.writeTo(sink);
+			}
+		}
+	}
+
+	/**
+	 * Models the computer system on the random task graphs.
+	 * @throws IOException if files can't be read or written
+	 */
+	private void sweep() throws IOException {
+		ComputerSystem comSys = readComputerSystem();
+		int minW = options.getInt("minW", 1);
+		int maxW = options.getInt("maxW", 5);
+		int minL = options.getInt("minL", 1);
+		int maxL = options.getInt("maxL", 50);
+		int samplesNumber = options.getInt("samples", 5);
+		int threadsNumber = options.getInt("threads", Runtime.getRuntime().availableProcessors());
+		long seed = options.getLong("seed", System.nanoTime());
+
+		if (minW >= maxW) {
+			throw new IllegalArgumentException("minW >= maxW");
+		}
+		if (minL >= maxL) {
+			throw new IllegalArgumentException("minL >= maxL");
+		}
+		if ((samplesNumber < 1) || (threadsNumber < 1)) {
+			throw new IllegalArgumentException("Number of samples and threads should be positive");
+		}
+
+		GraphGenerator generator = new GraphGenerator(minW, maxW, 0, 0, minL, maxL, samplesNumber);
+		SchedulerStatistics statistics = createStatistics("sweep");
+		generator.setStatistics(statistics);
+		generator.setEarliestFinish(options.getBooleanList("eft", "false")[0]);
+		SweepResult result = generator.generateMultipleGraphs(comSys, seed, samplesNumber, threadsNumber);
+		try (ResultSink sink = createSink()) {
+			result.writeTo(sink);
+			if (statistics != null) {
+				statistics.writeTo(sink);
+			}
+		}
+		System.out.println("Seed = " + seed);
+	}
+
+	/**
+	 * Creates the sink of the results of the specified format.
+	 * @return sink of the results
+	 * @throws IOException if file can't be created
+	 */
+	private ResultSink createSink() throws IOException {
+		String prefix = options.getRequired("out");
+		String format = options.getString("format", "csv");
+
+		if (format.equals("csv")) {
+			return new CsvResultSink(prefix);
+		} else if (format.equals("binary")) {
+			return new BinaryResultSink(prefix + ".bin");
+		}
+		throw new IllegalArgumentException("Unknown format: " + format);
+	}
+
+	/**
+	 * Creates statistics of the scheduler if they are requested and registers them in JMX.
+	 * @param name name of the statistics
+	 * @return statistics or null if they are not requested
+	 */
+	private SchedulerStatistics createStatistics(String name) {
+		if (!options.getBooleanList("statistics", "false")[0]) {
+			return null;
+		}
+		SchedulerStatistics statistics = new SchedulerStatistics();
+		try {
+			statistics.register(name);
+		} catch (JMException e) {
+			System.err.println("Warning! Statistics are not published through JMX: " + e.getMessage());
+		}
+		return statistics;
+	}
+
+	/**
+	 * Reads computer system file and checks the system.
+	 * @return computer system
+	 * @throws IOException if file can't be read
+	 */
+	private ComputerSystem readComputerSystem() throws IOException {
+		String filename = options.getRequired("system");
+		ComputerSystem comSys = ProjectFiles.readComputerSystem(filename);
+
+		switch (comSys.checkSystem()) {
+			case 1:
+				throw new IllegalArgumentException("Computer system is empty: " + filename);
+			case 2:
+				throw new IllegalArgumentException("Computer system is not connected: " + filename);
+		}
+		return comSys;
+	}
+}
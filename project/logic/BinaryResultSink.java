@@ -0,0 +1,213 @@
+package project.logic;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Writes all the tables and messages to the single binary file. Values are stored as doubles
+ * without any loss of precision, so the file is smaller and faster to write than CSV.
+ * File can be read back with {@link #read(String, ResultSink)}.
+ * Format: magic number and version, then records, each record starts with its tag:
+ * 1. TABLE   - name, label names and column names.
+ * 2. ROW     - labels and values(numbers of the cells are taken from the table).
+ * 3. END     - end of the table.
+ * 4. MESSAGE - information message.
+ * @author Yaroslav
+ *
+ */
+public class BinaryResultSink implements ResultSink {
+
+	/**
+	 * First bytes of the file.
+	 */
+	private static final int MAGIC = 0x52534c54;
+
+	/**
+	 * Version of the format.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Tag of the table start.
+	 */
+	private static final byte TABLE = 1;
+
+	/**
+	 * Tag of the row.
+	 */
+	private static final byte ROW = 2;
+
+	/**
+	 * Tag of the table end.
+	 */
+	private static final byte END = 3;
+
+	/**
+	 * Tag of the message.
+	 */
+	private static final byte MESSAGE = 4;
+
+	/**
+	 * Output file.
+	 */
+	private final DataOutputStream out;
+
+	/**
+	 * Number of the text cells of the current table, -1 if there is no table.
+	 */
+	private int labelsNumber;
+
+	/**
+	 * Number of the values of the current table.
+	 */
+	private int valuesNumber;
+
+	/**
+	 * Main constructor. Creates the file and writes its header.
+	 * @param filename path to the file
+	 * @throws IOException if file can't be created
+	 */
+	public BinaryResultSink(String filename) throws IOException {
+		out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(filename)));
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		labelsNumber = -1;
+	}
+
+	@Override
+	public void startTable(String name, String[] labelNames, String[] columnNames) throws IOException {
+		endTable();
+		out.writeByte(TABLE);
+		out.writeUTF(name);
+		writeStrings(labelNames);
+		writeStrings(columnNames);
+		labelsNumber = labelNames.length;
+		valuesNumber = columnNames.length;
+	}
+
+	@Override
+	public void writeRow(String[] labels, double[] values) throws IOException {
+		if (labelsNumber < 0) {
+			throw new IllegalStateException("Table is not started");
+		}
+		if ((labels.length != labelsNumber) || (values.length != valuesNumber)) {
+			throw new IllegalArgumentException("Row doesn't match the columns of the table");
+		}
+		out.writeByte(ROW);
+		for (String label : labels) {
+			out.writeUTF(label);
+		}
+		for (double value : values) {
+			out.writeDouble(value);
+		}
+	}
+
+	@Override
+	public void endTable() throws IOException {
+		if (labelsNumber >= 0) {
+			out.writeByte(END);
+			labelsNumber = -1;
+		}
+	}
+
+	@Override
+	public void writeMessage(String message) throws IOException {
+		out.writeByte(MESSAGE);
+		out.writeUTF(message);
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			endTable();
+		} finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * Writes the array of strings with its length.
+	 * @param strings array to write
+	 * @throws IOException if array can't be written
+	 */
+	private void writeStrings(String[] strings) throws IOException {
+		out.writeInt(strings.length);
+		for (String s : strings) {
+			out.writeUTF(s);
+		}
+	}
+
+	/**
+	 * Reads the file and writes all its tables and messages to the other sink, for example,
+	 * to convert it to CSV. Sink is not closed.
+	 * @param filename path to the file
+	 * @param sink receiver of the results
+	 * @throws IOException if file can't be read or has wrong format
+	 */
+	public static void read(String filename, ResultSink sink) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(filename)))) {
+			if ((in.readInt() != MAGIC) || (in.readInt() != VERSION)) {
+				throw new IOException("Wrong results file format: " + filename);
+			}
+			String[] labels = null;
+			double[] values = null;
+			int tag;
+
+			while ((tag = in.read()) >= 0) {
+				switch (tag) {
+					case TABLE:
+						String name = in.readUTF();
+						String[] labelNames = readStrings(in);
+						String[] columnNames = readStrings(in);
+						sink.startTable(name, labelNames, columnNames);
+						labels = new String[labelNames.length];
+						values = new double[columnNames.length];
+						break;
+					case ROW:
+						if (labels == null) {
+							throw new IOException("Row outside of the table: " + filename);
+						}
+						for (int i = 0; i < labels.length; i++) {
+							labels[i] = in.readUTF();
+						}
+						for (int i = 0; i < values.length; i++) {
+							values[i] = in.readDouble();
+						}
+						sink.writeRow(labels, values);
+						break;
+					case END:
+						sink.endTable();
+						labels = null;
+						break;
+					case MESSAGE:
+						sink.writeMessage(in.readUTF());
+						break;
+					default:
+						throw new IOException("Wrong record tag " + tag + ": " + filename);
+				}
+			}
+		} catch (EOFException e) {
+			throw new IOException("Results file is truncated: " + filename, e);
+		}
+	}
+
+	/**
+	 * Reads the array of strings with its length.
+	 * @param in input stream
+	 * @return array of strings
+	 * @throws IOException if array can't be read
+	 */
+	private static String[] readStrings(DataInputStream in) throws IOException {
+		String[] strings = new String[in.readInt()];
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = in.readUTF();
+		}
+		return strings;
+	}
+}
@@ -0,0 +1,155 @@
+package project.logic;
+
+import java.util.HashMap;
+
+/**
+ * Options of the command line. Each option is the pair of the name with two dashes and
+ * the value, for example "--seed 5". Lists are comma-separated. Wrong options and values
+ * cause IllegalArgumentException, so the command line tools can print their usage.
+ * @author Yaroslav
+ *
+ */
+public final class CommandLineOptions {
+
+	/**
+	 * Values of the options by their names(without dashes).
+	 */
+	private final HashMap<String, String> options;
+
+	/**
+	 * Main constructor. Parses the options.
+	 * @param args arguments of the command line
+	 * @param from index of the first option
+	 */
+	public CommandLineOptions(String[] args, int from) {
+		options = new HashMap<>();
+
+		for (int i = from; i < args.length; i += 2) {
+			if (!args[i].startsWith("--") || (i + 1 == args.length)) {
+				throw new IllegalArgumentException("Wrong option: " + args[i]);
+			}
+			options.put(args[i].substring(2), args[i + 1]);
+		}
+	}
+
+	/**
+	 * Returns the value of the required option.
+	 * @param name option name
+	 * @return option value
+	 */
+	public String getRequired(String name) {
+		String value = options.get(name);
+		if (value == null) {
+			throw new IllegalArgumentException("Option --" + name + " is required");
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the value of the option.
+	 * @param name option name
+	 * @param defaultValue value of the missing option
+	 * @return option value
+	 */
+	public String getString(String name, String defaultValue) {
+		String value = options.get(name);
+		if (value == null) {
+			return defaultValue;
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the integer value of the option.
+	 * @param name option name
+	 * @param defaultValue value of the missing option
+	 * @return option value
+	 */
+	public int getInt(String name, int defaultValue) {
+		String value = options.get(name);
+		if (value == null) {
+			return defaultValue;
+		}
+		return Integer.parseInt(value);
+	}
+
+	/**
+	 * Returns the long value of the option.
+	 * @param name option name
+	 * @param defaultValue value of the missing option
+	 * @return option value
+	 */
+	public long getLong(String name, long defaultValue) {
+		String value = options.get(name);
+		if (value == null) {
+			return defaultValue;
+		}
+		return Long.parseLong(value);
+	}
+
+	/**
+	 * Returns the comma-separated list of the values of the option.
+	 * @param name option name
+	 * @param defaultValue value of the missing option
+	 * @return option values
+	 */
+	public String[] getStringList(String name, String defaultValue) {
+		String[] items = getString(name, defaultValue).split(",");
+
+		for (int i = 0; i < items.length; i++) {
+			items[i] = items[i].trim();
+		}
+		return items;
+	}
+
+	/**
+	 * Returns the comma-separated list of the integer values of the option.
+	 * @param name option name
+	 * @param defaultValue value of the missing option
+	 * @return option values
+	 */
+	public int[] getIntList(String name, String defaultValue) {
+		String[] items = getStringList(name, defaultValue);
+		int[] values = new int[items.length];
+
+		for (int i = 0; i < items.length; i++) {
+			values[i] = Integer.parseInt(items[i]);
+		}
+		return values;
+	}
+
+	/**
+	 * Returns the comma-separated list of the double values of the option.
+	 * @param name option name
+	 * @param defaultValue value of the missing option
+	 * @return option values
+	 */
+	public double[] getDoubleList(String name, String defaultValue) {
+		String[] items = getStringList(name, defaultValue);
+		double[] values = new double[items.length];
+
+		for (int i = 0; i < items.length; i++) {
+			values[i] = Double.parseDouble(items[i]);
+		}
+		return values;
+	}
+
+	/**
+	 * Returns the comma-separated list of the boolean values of the option.
+	 * @param name option name
+	 * @param defaultValue value of the missing option
+	 * @return option values
+	 */
+	public boolean[] getBooleanList(String name, String defaultValue) {
+		String[] items = getStringList(name, defaultValue);
+		boolean[] values = new boolean[items.length];
+
+		for (int i = 0; i < items.length; i++) {
+			if (!items[i].equals("true") && !items[i].equals("false")) {
+				throw new IllegalArgumentException("Wrong value of --" + name + ": " + items[i]);
+			}
+			values[i] = Boolean.parseBoolean(items[i]);
+		}
+		return values;
+	}
+}
@@ -1,17 +1,34 @@
 package project.logic;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * This class describes the computer system. Contains scheduling algorithms
- * implementation based on the specified task graph. 
+ * implementation based on the specified task graph. Algorithms:
+ * 1 - random mapping;
+ * 5 - neighbouring destination mapping, optionally with the earliest finish time choice of
+ * the processor for the dependent nodes;
+ * 6 - HEFT(heterogeneous earliest finish time) mapping.
  * @author Yaroslav
  *
  */
 public class ComputerSystem {
 	
+	/**
+	 * Default minimum number of the processors for the parallel evaluation of the candidates.
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+	
+	/**
+	 * Number of the candidate processors evaluated by one task.
+	 */
+	private static final int CANDIDATES_CHUNK_SIZE = 256;
+	
 	/**
 	 * Name of the computer system
 	 */
@@ -28,25 +45,22 @@ public class ComputerSystem {
 	private ArrayList<SystemLink> linkList;
 	
 	/**
-	 * A pointer to the task graph to schedule.
+	 * Routing tables of the computer system. They are built when they are needed first time 
+	 * and dropped when system nodes or links are changed. Tables are immutable, so the runs
+	 * started from different threads share them.
 	 */
-	private Graph taskGraph;
+	private volatile RoutingTable routingTable;
 	
 	/**
-	 * Code of the algorithm(1 or 5)
+	 * Index of the next created system node.
 	 */
-	private int algorythmType;
+	private int nextIndex;
 	
 	/**
-	 * This flag specifies whether we use duplex physical 
-	 * links or not
+	 * Minimum number of the processors, when candidates for the dependent graph node are
+	 * evaluated in parallel.
 	 */
-	private boolean duplex;
-	
-	/**
-	 * Default processor physical links number.
-	 */
-	public static int processorLinkNumber = 1;
+	private int parallelThreshold;
 	
 	/**
 	 * Main constructor.
@@ -54,16 +68,45 @@ public class ComputerSystem {
 	public ComputerSystem() {
 		nodeList = new ArrayList<>();
 		linkList = new ArrayList<>();
+		parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
 	}
 	
-	@SuppressWarnings("unchecked")
 	/**
-	 * Makes a copy of the existing computer system object.
+	 * Makes a deep copy of the existing computer system object. System nodes and links are
+	 * copied, so the copy can be changed independently. Routing tables are not rebuilt, the copy 
+	 * shares them with this system until the topology of one of them is changed.
 	 */
 	public ComputerSystem clone() {
 		ComputerSystem comSys = new ComputerSystem();
-		comSys.setNodeList((ArrayList<SystemNode>)nodeList.clone());
-		comSys.setLinkList((ArrayList<SystemLink>)linkList.clone());
+		IdentityHashMap<SystemNode, SystemNode> copies = new IdentityHashMap<>();
+		ArrayList<SystemNode> nodeListCopy = new ArrayList<>(nodeList.size());
+		ArrayList<SystemLink> linkListCopy = new ArrayList<>(linkList.size());
+		
+		for (SystemNode sysNode : nodeList) {
+			SystemNode copy = new SystemNode(sysNode);
+			copies.put(sysNode, copy);
+			nodeListCopy.add(copy);
+		}
+		for (SystemLink link : linkList) {
+			linkListCopy.add(new SystemLink(copies.get(link.getFirstNode()), copies.get(link.getSecondNode())));
+		}
+		for (SystemNode sysNode : nodeList) {
+			ArrayList<SystemNode> neighbours = copies.get(sysNode).getNeighbours();
+			neighbours.clear();
+			for (SystemNode neighbour : sysNode.getNeighbours()) {
+				neighbours.add(copies.get(neighbour));
+			}
+		}
+		
+		comSys.setName(name);
+		comSys.setNodeList(nodeListCopy);
+		comSys.setLinkList(linkListCopy);
+		comSys.nextIndex = nextIndex;
+		comSys.parallelThreshold = parallelThreshold;
+		RoutingTable table = routingTable;
+		if (table != null) {
+			comSys.routingTable = table.copyFor(nodeListCopy.toArray(new SystemNode[nodeListCopy.size()]));
+		}
 		return comSys;
 	}
 	
@@ -96,7 +139,15 @@ public class ComputerSystem {
 			}
 		}
 		maxIndex++;
-		SystemNode.nextIndex = maxIndex;
+		nextIndex = maxIndex;
+	}
+	
+	/**
+	 * Generates unique index for the new system node.
+	 * @return system node index
+	 */
+	public int generateIndex() {
+		return nextIndex++;
 	}
 	
 	/**
@@ -162,321 +213,344 @@ public class ComputerSystem {
 	}	
 	
 	/**
-	 * Searches for total execution type on this system in tacts.
-	 * @return total schedule time
+	 * Main method to load task graph on the computer system. Scheduling works on the
+	 * snapshot of the task graph created during the queue generation. Graph node is ready
+	 * to be assigned when all its ancestry are assigned, ready nodes are kept in the heap by 
+	 * their queue positions, so the first ready node of the queue is always assigned next.
+	 * HEFT(algorithm 6) doesn't use the queue of the task graph, it orders the nodes by their
+	 * upward ranks.
+	 * @param graph task graph
+	 * @param algorythm algorithm code
+	 * @param linksNumber number of the physical links 
+	 * @param duplex duplex/simplex flag
+	 * @return schedule of the task graph
 	 */
-	public int findTotalScheduleTime() {
-		int[] lastTacts = new int[nodeList.size()];
-		for (int i = 0; i < nodeList.size(); i++) {
-			lastTacts[i] = nodeList.get(i).getLastTaskEndTime();
-		}
-		return findArrayMax(lastTacts);
+	public ScheduleResult loadTaskGraph(Graph graph, int algorythm, int linksNumber, boolean duplex) {
+		return loadTaskGraph(graph, new SchedulingContext(algorythm, linksNumber, duplex));
 	}
 	
 	/**
-	 * Resets all the assigned task graph nodes of each computer system node.
+	 * Loads task graph on the computer system with the specified parameters of the run.
+	 * Neither task graph nor computer system are changed, the schedule is returned as the result.
 	 * @param graph task graph
+	 * @param context parameters of the run
+	 * @return schedule of the task graph
 	 */
-	private void resetAssignation(Graph graph) {
-		for (SystemNode sysNode : nodeList) {
-			sysNode.getScheduledNodes().clear();
-			sysNode.getProcessorLinks().clear();
-			for (int i = 0; i < processorLinkNumber; i++) {
-				ProcessorLink pLink = new ProcessorLink(i);
-				sysNode.addProcessorLink(pLink);
-			}			
-			sysNode.resetTacts();
-		}
-		
-		for (GNode gnode : graph.getGnodeList()) {
-			gnode.setAssigned(false);
-		}
+	public ScheduleResult loadTaskGraph(Graph graph, SchedulingContext context) {
+		return loadTaskGraph(graph, context, new RandomSource());
 	}
 	
 	/**
-	 * Selects task graph node from the formed queue.
-	 * @param queue task graph queue
-	 * @return selected graph node
+	 * Loads task graph on the computer system with the specified parameters of the run.
+	 * Random mapping(algorithm 1) uses the specified random generator, so the same generator
+	 * state gives the same schedule.
+	 * @param graph task graph
+	 * @param context parameters of the run
+	 * @param random random generator
+	 * @return schedule of the task graph
 	 */
-	private GNode selectCurrentGNode(ArrayList<GNode> queue) {
-		boolean selected = false;
-		int i = 0;
-		GNode currentGNode = null;
-		
-		while (selected == false) {
-			currentGNode = queue.get(i);
-			i++;
-			if (currentGNode.ancestryAreAssigned() == true) {
-				selected = true;
-			}
-		}
-		return currentGNode;
+	public ScheduleResult loadTaskGraph(Graph graph, SchedulingContext context, RandomSource random) {
+		return loadTaskGraph(graph, context, random, null);
 	}
 	
 	/**
-	 * Main method to load task graph on the computer system.
+	 * Loads task graph on the computer system with the specified parameters of the run.
+	 * Schedule is taken from the specified pool, so it should be released to the pool when 
+	 * it is not needed anymore. If the context has statistics, times of the phases and counters
+	 * of this run are added to them.
 	 * @param graph task graph
-	 * @param algorythm algorithm code
-	 * @param linksNumber number of the physical links 
-	 * @param duplex duplex/simplex flag
+	 * @param context parameters of the run
+	 * @param random random generator
+	 * @param pool pool of the schedules or null to create the new schedule
+	 * @return schedule of the task graph
 	 */
-	public void loadTaskGraph(Graph graph, int algorythm, int linksNumber, boolean duplex) {
-		algorythmType = algorythm;
-		processorLinkNumber = linksNumber;
-		this.duplex = duplex;
-		resetAssignation(graph);		
-		this.taskGraph = graph;
-		ArrayList<GNode> taskQueue = graph.getQueue();
-		
-		@SuppressWarnings("unchecked")
-		ArrayList<GNode> bufQueue = (ArrayList<GNode>)taskQueue.clone();
-		calculateSystemNodesPriority();
-		sortSystemNodesByPriority();		
+	public ScheduleResult loadTaskGraph(Graph graph, SchedulingContext context, RandomSource random, 
+			ScheduleResultPool pool) {
+		GraphSnapshot snapshot = graph.getSnapshot();
+		int size = snapshot.getSize();
+		GNode[] gnodes = new GNode[size];
+		int[] queuePositions = new int[size];
+		int[] notAssignedAncestry = new int[size];
+		IntMinHeap readyQueue = new IntMinHeap(size);
+		SchedulerStatistics statistics = (context.getStatistics() == null) ? null : new SchedulerStatistics();
+		RoutingTable routing = getRoutingTable(statistics);
+		int[] taskQueue;
+		
+		if (context.getAlgorythmType() == 6) {
+			long time = SchedulerStatistics.start(statistics);
+			taskQueue = generateUpwardRankQueue(snapshot, routing);
+			if (statistics != null) {
+				statistics.stop(SchedulerStatistics.QUEUE_BUILDING, time);
+			}
+		} else {
+			taskQueue = graph.getQueueOrder();
+		}
+		
+		for (int i = 0; i < size; i++) {
+			queuePositions[taskQueue[i]] = i;
+		}
+		
+		for (int id = 0; id < size; id++) {
+			gnodes[id] = graph.getGNodeByIndex(snapshot.getGNodeIndex(id));
+			notAssignedAncestry[id] = snapshot.getPredecessorsNumber(id);
+			if (notAssignedAncestry[id] == 0) {
+				readyQueue.push(queuePositions[id]);
+			}
+		}
+		
+		ScheduleResult schedule;
+		if (pool == null) {
+			schedule = new ScheduleResult(snapshot, gnodes, routing, context);
+		} else {
+			schedule = pool.acquire(snapshot, gnodes, routing, context);
+		}
 				
-		while (!bufQueue.isEmpty()) {
-			GNode currentGNode = selectCurrentGNode(bufQueue);						
-			if (currentGNode.isStartNode()) {
-				assignIndependentGNode(currentGNode);			
+		while (!readyQueue.isEmpty()) {
+			long time = SchedulerStatistics.start(statistics);
+			int currentGNode = taskQueue[readyQueue.pop()];
+			if (statistics != null) {
+				statistics.stop(SchedulerStatistics.NODE_SELECTION, time);
+				statistics.increment(SchedulerStatistics.SCHEDULED_NODES);
+			}
+			if (context.getAlgorythmType() == 6) {
+				assignEarliestFinishGNode(schedule, currentGNode, statistics);
+			} else if (snapshot.getPredecessorsNumber(currentGNode) == 0) {
+				assignIndependentGNode(schedule, currentGNode, random, statistics);			
 			} else {
-				assignDependentGNode(currentGNode);
-			}					
-			bufQueue.remove(currentGNode);
+				assignDependentGNode(schedule, currentGNode, random, statistics);
+			}
+			
+			time = SchedulerStatistics.start(statistics);
+			for (int k = snapshot.getSuccessorsStart(currentGNode); k < snapshot.getSuccessorsEnd(currentGNode); k++) {
+				int successor = snapshot.getSuccessor(k);
+				notAssignedAncestry[successor]--;
+				if (notAssignedAncestry[successor] == 0) {
+					readyQueue.push(queuePositions[successor]);
+				}
+			}
+			if (statistics != null) {
+				statistics.stop(SchedulerStatistics.NODE_SELECTION, time);
+			}
 		}		
+		
+		if (statistics != null) {
+			statistics.increment(SchedulerStatistics.RUNS);
+			context.getStatistics().addAll(statistics);
+		}
+		return schedule;
 	}	
 	
 	/**
-	 * Searches for system node, which has the smallest end time. 
-	 * @return computer system node
+	 * Searches for processor, which has the smallest end time. 
+	 * @param schedule current schedule
+	 * @return processor id
 	 */
-	private SystemNode findEarliestSystemNode() {
-		SystemNode earliestNode = nodeList.get(0);
+	private int findEarliestProcessor(ScheduleResult schedule) {
+		int earliestProcessor = schedule.getProcessorByPriority(0);
 		
-		for (int i = 1; i < nodeList.size(); i++) {
-			if (nodeList.get(i).getLastTaskEndTime() < earliestNode.getLastTaskEndTime()) {
-				earliestNode = nodeList.get(i);
+		for (int i = 1; i < schedule.getProcessorsNumber(); i++) {
+			int processor = schedule.getProcessorByPriority(i);
+			if (schedule.getLastTaskEndTime(processor) < schedule.getLastTaskEndTime(earliestProcessor)) {
+				earliestProcessor = processor;
 			}
 		}
-		return earliestNode;
-	}
-	
-	/**
-	 * Generates random index to chose system node.
-	 * @return random system node
-	 */
-	private SystemNode chooseRandomProcessor() {
-		int processorIndex = GraphGenerator.generateRandomValue(0, nodeList.size());
-		return nodeList.get(processorIndex);
+		return earliestProcessor;
 	}
 	
 	/**
-	 * Assigns task graph node to a specified computer system node. 
-	 * @param gnode task graph node
-	 * @param sysNode computer system node
-	 * @param startTime start time(first tact) of the graph node
-	 * @param endTime end time(last tact) of the graph node
+	 * Generates random index to chose processor.
+	 * @param schedule current schedule
+	 * @param random random generator
+	 * @return random processor id
 	 */
-	private void assignGNodeProcessor(GNode gnode, SystemNode sysNode, int startTime, int endTime) {
-		gnode.setStartTime(startTime);
-		gnode.setEndTime(endTime);
-		gnode.setAssigned(true);
-		gnode.setAssignedSystemNode(sysNode);
-		sysNode.addScheduledGNode(gnode);
-		for (int i = startTime; i < endTime; i++) {
-			sysNode.getTacts().get(i).setScheduledGNode(gnode);
-		}
+	private int chooseRandomProcessor(ScheduleResult schedule, RandomSource random) {
+		int processorIndex = random.nextIndex(schedule.getProcessorsNumber());
+		return schedule.getProcessorByPriority(processorIndex);
 	}
 	
 	/**
 	 * This method assigns a node from task graph, which is not depended on the other nodes.
-	 * @param independentGNode independent graph node
-	 */
-	private void assignIndependentGNode(GNode independentGNode) {
-		if (algorythmType == 1) {			
-			SystemNode chosenProcessor = chooseRandomProcessor();
-			int startTime = chosenProcessor.getLastTaskEndTime();
-			int endTime = startTime + independentGNode.getTExe();
-			assignGNodeProcessor(independentGNode, chosenProcessor, startTime, endTime); 
-		} else if (algorythmType == 5) {
-			if (emptySystemNodesInSystem() == true) {
-				for (int i = nodeList.size() - 1; i >= 0; i--) {
-					SystemNode sysNode = nodeList.get(i);
-					if (sysNode.getScheduledNodes().isEmpty()) {					
-						assignGNodeProcessor(independentGNode, sysNode, 0, independentGNode.getTExe());
-						return;
+	 * @param schedule current schedule
+	 * @param independentGNode independent graph node id
+	 * @param random random generator
+	 * @param statistics statistics of the run or null
+	 */
+	private void assignIndependentGNode(ScheduleResult schedule, int independentGNode, RandomSource random, 
+			SchedulerStatistics statistics) {
+		int tExe = schedule.getSnapshot().getTExe(independentGNode);
+		int chosenProcessor = -1;
+		int startTime = 0;
+		long time = SchedulerStatistics.start(statistics);
+		if (schedule.getContext().getAlgorythmType() == 1) {			
+			chosenProcessor = chooseRandomProcessor(schedule, random);
+			startTime = schedule.getLastTaskEndTime(chosenProcessor);
+		} else if (schedule.getContext().getAlgorythmType() == 5) {
+			if (schedule.hasEmptyProcessors()) {
+				for (int i = schedule.getProcessorsNumber() - 1; i >= 0; i--) {
+					int processor = schedule.getProcessorByPriority(i);
+					if (schedule.isEmpty(processor)) {					
+						chosenProcessor = processor;
+						break;
 					} 
 				}
 			} else {
-				SystemNode earliestNode = findEarliestSystemNode();
-				int lastTact = earliestNode.getLastTaskEndTime();			
-				assignGNodeProcessor(independentGNode, earliestNode, lastTact, 
-						lastTact + independentGNode.getTExe());			
+				chosenProcessor = findEarliestProcessor(schedule);
+				startTime = schedule.getLastTaskEndTime(chosenProcessor);			
 			}
-		}			
+		}
+		if (chosenProcessor == -1) {
+			return;
+		}
+		if (statistics != null) {
+			statistics.stop(SchedulerStatistics.PROCESSOR_SELECTION, time);
+			time = System.nanoTime();
+		}
+		schedule.assign(independentGNode, chosenProcessor, startTime, startTime + tExe);
+		if (statistics != null) {
+			statistics.stop(SchedulerStatistics.TACT_WRITES, time);
+		}
 	}	
 	
 	/**
-	 * Checks whether all ancestry nodes of the specified node are assigned or not.
-	 * @param ancestry a list of the ancestry nodes
-	 * @return true if all the ancestry are assigned
+	 * Calculates the path time from one computer system node to another.
+	 * @param distance number of the hops between system nodes
+	 * @param linkWeight weight of the transition taken from the task graph
+	 * @return calculated path time
 	 */
-	private boolean areAssigned(ArrayList<GNode> ancestry) {
-		boolean areAssigned = true;
-		
-		for (GNode gnode : ancestry) {
-			if (!gnode.isAssigned()) {
-				areAssigned = false;
-			}
-		}
-		return areAssigned;
+	private int calculatePathTime(int distance, int linkWeight) {
+		return linkWeight * distance;
 	}
 	
 	/**
-	 * Searches for the biggest ancestry execution end time.
-	 * @param ancestry a list of the ancestry nodes
-	 * @return the "latest" ancestry end time(last tact)
+	 * This method searches for processor, which has best "start time". It is based on the 
+	 * neighboring destination algorithm with the preemption shipments. In the large systems
+	 * processors are evaluated in parallel by chunks, best processor of each chunk is found and
+	 * the best of them is chosen in the order of the chunks, so the result is the same as of
+	 * the serial search: processor with the lowest start time and then with the lowest position.
+	 * @param schedule current schedule
+	 * @param dependentGNode id of the node, which is depended of other nodes
+	 * @return found processor id
 	 */
-	private int getAncestryEndTime(ArrayList<GNode> ancestry) {
-		int endTime = ancestry.get(0).getEndTime();
+	private int selectBestProcessor(ScheduleResult schedule, int dependentGNode) {		
+		GraphSnapshot snapshot = schedule.getSnapshot();
+		int processorsNumber = schedule.getProcessorsNumber();
+		int ancestryStart = snapshot.getPredecessorsStart(dependentGNode);
+		int ancestryEnd = snapshot.getPredecessorsEnd(dependentGNode);
+		int startTime[] = new int[processorsNumber];
+		int[] ancestryProcessors = new int[ancestryEnd - ancestryStart];
 		
-		for (int i = 1; i < ancestry.size(); i++) {
-			if (ancestry.get(i).getEndTime() > endTime) {
-				endTime = ancestry.get(i).getEndTime();
-			}
+		for (int k = ancestryStart; k < ancestryEnd; k++) {
+			ancestryProcessors[k - ancestryStart] = schedule.getProcessor(snapshot.getPredecessor(k));
 		}
-		return endTime;
-	}
-	
-	/**
-	 * Searches for free system node based on the specified time.
-	 * @param time this time should be less than time we are looking for
-	 * @return a list of found system nodes
-	 */
-	private ArrayList<SystemNode> findFreeSystemNodes(int time) {
-		ArrayList<SystemNode> freeSystemNodes = new ArrayList<>();
 		
-		for (SystemNode sysNode : nodeList) {
-			if (sysNode.getLastTaskEndTime() <= time) {
-				freeSystemNodes.add(sysNode);
+		int k;
+		if (processorsNumber < parallelThreshold) {
+			k = findBestCandidate(schedule, dependentGNode, ancestryProcessors, startTime, 0, processorsNumber);
+		} else {
+			CandidatesChunk[] chunks = new CandidatesChunk[(processorsNumber + CANDIDATES_CHUNK_SIZE - 1) / CANDIDATES_CHUNK_SIZE];
+			for (int c = 0; c < chunks.length; c++) {
+				chunks[c] = new CandidatesChunk(schedule, dependentGNode, ancestryProcessors, startTime, 
+						c * CANDIDATES_CHUNK_SIZE, Math.min(processorsNumber, (c + 1) * CANDIDATES_CHUNK_SIZE));
+			}
+			ForkJoinTask.invokeAll(chunks);
+			
+			k = chunks[0].bestPosition;
+			for (int c = 1; c < chunks.length; c++) {
+				if (startTime[chunks[c].bestPosition] < startTime[k]) {
+					k = chunks[c].bestPosition;
+				}
 			}
 		}
-		return freeSystemNodes;
-	}
-	
-	/**
-	 * Calculates the path time from one computer system node to another.
-	 * @param path a path from one system node to another
-	 * @param linkWeight weight of the transition taken from the task graph
-	 * @return calculated path time
-	 */
-	private int calculatePathTime(ArrayList<SystemNode> path, int linkWeight) {
-		return linkWeight * (path.size() - 1);
-	}
+		return schedule.getProcessorByPriority(k);
+	}	
 	
 	/**
-	 * This method searches for system node, which has best "start time". It is based on the 
-	 * neighboring destination algorithm with the preemption shipments.
-	 * @param dependentGNode a node, which is depended of other nodes
-	 * @return found system node
+	 * Calculates "start times" of the dependent node on the processors from the specified 
+	 * range of the priority positions and searches for the best of them.
+	 * @param schedule current schedule
+	 * @param dependentGNode id of the node, which is depended of other nodes
+	 * @param ancestryProcessors processors of the ancestry
+	 * @param startTime array to write start times by the priority positions
+	 * @param from first position
+	 * @param to position after the last one
+	 * @return position of the first processor with the lowest start time
 	 */
-	private SystemNode selectBestSystemNode(GNode dependentGNode) {		
-		ArrayList<GNode> ancestry = dependentGNode.getPrev();
-		int startTime[] = new int[nodeList.size()];
+	private int findBestCandidate(ScheduleResult schedule, int dependentGNode, int[] ancestryProcessors, 
+			int[] startTime, int from, int to) {
+		GraphSnapshot snapshot = schedule.getSnapshot();
+		RoutingTable routing = schedule.getRoutingTable();
+		int ancestryStart = snapshot.getPredecessorsStart(dependentGNode);
+		int ancestryEnd = snapshot.getPredecessorsEnd(dependentGNode);
 		
-		if (ancestry.size() == 1) {
-			GNode ancestor = ancestry.get(0);
-			for (int i = 0; i < nodeList.size(); i++) {
-				SystemNode sysNode = nodeList.get(i);								
-				startTime[i] = calculatePathTime(findShortestPath(ancestor.getAssignedSystemNode(), sysNode), 
-						  taskGraph.findGLink(ancestor, dependentGNode).getTCom());				
+		if (ancestryEnd - ancestryStart == 1) {
+			for (int i = from; i < to; i++) {
+				startTime[i] = calculatePathTime(routing.getDistance(ancestryProcessors[0], schedule.getProcessorByPriority(i)), 
+						  snapshot.getPredecessorWeight(ancestryStart));				
 			}
 		} else {
-			if (ComputerSystem.processorLinkNumber == 1) {
-				for (int i = 0; i < nodeList.size(); i++) {
-					SystemNode sysNode = nodeList.get(i);
-					for (GNode ancestor : ancestry) {				
-						startTime[i] += calculatePathTime(findShortestPath(ancestor.getAssignedSystemNode(), sysNode), 
-								  taskGraph.findGLink(ancestor, dependentGNode).getTCom());
+			if (schedule.getContext().getLinksNumber() == 1) {
+				for (int i = from; i < to; i++) {
+					for (int k = ancestryStart; k < ancestryEnd; k++) {				
+						startTime[i] += calculatePathTime(routing.getDistance(ancestryProcessors[k - ancestryStart], schedule.getProcessorByPriority(i)), 
+								  snapshot.getPredecessorWeight(k));
 					}					
 				}
 			} else {
-				for (int i = 0; i < nodeList.size(); i++) {
-					SystemNode sysNode = nodeList.get(i);
-					int[] pathLength = new int[ancestry.size()];
-					
-					for (int j = 0; j < ancestry.size(); j++) {	
-						GNode ancestor = ancestry.get(j);
-						pathLength[j] = calculatePathTime(findShortestPath(ancestor.getAssignedSystemNode(), sysNode), 
-								  taskGraph.findGLink(ancestor, dependentGNode).getTCom());
+				int[] pathLength = new int[ancestryEnd - ancestryStart];
+				for (int i = from; i < to; i++) {
+					for (int k = ancestryStart; k < ancestryEnd; k++) {	
+						pathLength[k - ancestryStart] = calculatePathTime(routing.getDistance(ancestryProcessors[k - ancestryStart], schedule.getProcessorByPriority(i)), 
+								  snapshot.getPredecessorWeight(k));
 					}
 					startTime[i] = findArrayMax(pathLength);					
 				}
 			}
 		}		
 		
-		int bestStartTime = startTime[0];
-		int k = 0;
-		
-		for (int i = 1; i < startTime.length; i++) {
-			if (startTime[i] < bestStartTime) {
-				bestStartTime = startTime[i];
-				k = i;
+		int best = from;
+		for (int i = from + 1; i < to; i++) {
+			if (startTime[i] < startTime[best]) {
+				best = i;
 			}
 		}		
-		return nodeList.get(k);
-	}	
+		return best;
+	}
 	
 	/**
-	 * This method assigns transmission to a processor physical link.
-	 * @param currentNode current computer system node
-	 * @param nextNode next(in the path) computer system node
+	 * Searches for the physical links and the time of the transmission from one processor to
+	 * the next one in the path. Nothing is changed, so it is also used to estimate data arrival.
+	 * @param schedule current schedule
+	 * @param currentProcessor current processor id
+	 * @param nextProcessor next(in the path) processor id
 	 * @param iterationStartTime start time of iteration
 	 * @param iterationEndTime end time of iteration
 	 * @param linkWeight weight of the link from task graph
-	 * @param ancestor task graph ancestor node
-	 * @param dependentGNode successor of the ancestor
-	 * @return best end time of the transmission
+	 * @param window array to return start time of the transmission, numbers of the current
+	 * and the next processor links
 	 */
-	private int assignTransmissionProcessorLink(SystemNode currentNode, SystemNode nextNode, 
-			int iterationStartTime, int iterationEndTime, int linkWeight, GNode ancestor, 
-			GNode dependentGNode) {
-		ArrayList<Tact> currentNodeTacts = currentNode.getTacts();
-		ArrayList<ProcessorLink> currentNodeLinks = currentNode.getProcessorLinks();
-		
-		ArrayList<Tact> nextNodeTacts = nextNode.getTacts();
-		ArrayList<ProcessorLink> nextNodeLinks = nextNode.getProcessorLinks();
+	private void findTransmissionWindow(ScheduleResult schedule, int currentProcessor, int nextProcessor, 
+			int iterationStartTime, int iterationEndTime, int linkWeight, int[] window) {
+		boolean duplex = schedule.getContext().isDuplex();
+		ProcessorLink[] currentNodeLinks = schedule.getProcessorLinks(currentProcessor);
+		ProcessorLink[] nextNodeLinks = schedule.getProcessorLinks(nextProcessor);
 		
-		int[] currentNodeBestStartTime = new int[currentNodeLinks.size()];
-		int[] nextNodeBestStartTime = new int[nextNodeLinks.size()];
+		int[] currentNodeBestStartTime = new int[currentNodeLinks.length];
+		int[] nextNodeBestStartTime = new int[nextNodeLinks.length];
 		
 		int bestCurrentLinkNum = -1;
 		int bestNextLinkNum = -1;		
 		
-		for (int i = 0; i < currentNodeLinks.size(); i++) {
-			ProcessorLink currentLink = currentNodeLinks.get(i);
-			int linkNum = currentLink.getLinkNumber();
-			boolean intervalFound = false;
+		for (int i = 0; i < currentNodeLinks.length; i++) {
+			int linkNum = currentNodeLinks[i].getLinkNumber();
 			int tempStartTime = iterationStartTime;
-			int tempEndTime = iterationEndTime;
 			
 			if (duplex) {
-				if (currentNode.linkTimeIntervalIsBusy(tempStartTime, tempEndTime, linkNum, 0) == true) {					
-					while (intervalFound == false) {
-						tempStartTime++;
-						tempEndTime++;
-						if (nextNode.linkTimeIntervalIsBusy(tempStartTime, tempEndTime, linkNum, 0) == false) {
-							intervalFound = true;
-						}
-					}
+				if (currentNodeLinks[linkNum].isBusy(tempStartTime, iterationEndTime, ProcessorLink.OUT) == true) {					
+					tempStartTime = nextNodeLinks[linkNum].findFreeWindow(ProcessorLink.OUT, tempStartTime + 1, linkWeight);
 				}				
 			} else {
-				if (currentNode.linkTimeIntervalIsBusy(tempStartTime, tempEndTime, linkNum) == true) {				
-					while (intervalFound == false) {
-						tempStartTime++;
-						tempEndTime++;
-						if (nextNode.linkTimeIntervalIsBusy(tempStartTime, tempEndTime, linkNum) == false) {
-							intervalFound = true;
-						}
-					}
+				if (currentNodeLinks[linkNum].isBusy(tempStartTime, iterationEndTime) == true) {				
+					tempStartTime = nextNodeLinks[linkNum].findFreeWindow(tempStartTime + 1, linkWeight);
 				}
 			}
 			currentNodeBestStartTime[i] = tempStartTime;			
@@ -492,36 +566,19 @@ public class ComputerSystem {
 			}
 		}
 		
-		bestCurrentLinkNum = currentNodeLinks.get(currentIndex).getLinkNumber();		
+		bestCurrentLinkNum = currentNodeLinks[currentIndex].getLinkNumber();		
 		int currentBestEndTime = currentBestStartTime + linkWeight;
 		
-		for (int i = 0; i < nextNodeLinks.size(); i++) {
-			ProcessorLink currentLink = nextNodeLinks.get(i);
-			int linkNum = currentLink.getLinkNumber();
-			boolean intervalFound = false;
+		for (int i = 0; i < nextNodeLinks.length; i++) {
+			int linkNum = nextNodeLinks[i].getLinkNumber();
 			int tempStartTime = currentBestStartTime;
-			int tempEndTime = currentBestEndTime;
 			
 			if (duplex) {
-				if (currentNode.linkTimeIntervalIsBusy(tempStartTime, tempEndTime, linkNum, 1) == true) {				
-					while (intervalFound == false) {
-						tempStartTime++;
-						tempEndTime++;
-						if (nextNode.linkTimeIntervalIsBusy(tempStartTime, tempEndTime, linkNum, 1) == false) {
-							intervalFound = true;
-						}
-					}
+				if (currentNodeLinks[linkNum].isBusy(tempStartTime, currentBestEndTime, ProcessorLink.IN) == true) {				
+					tempStartTime = nextNodeLinks[linkNum].findFreeWindow(ProcessorLink.IN, tempStartTime + 1, linkWeight);
 				}				
 			} else {
-				if (nextNode.linkTimeIntervalIsBusy(tempStartTime, tempEndTime, linkNum) == true) {				
-					while (intervalFound == false) {
-						tempStartTime++;
-						tempEndTime++;
-						if (nextNode.linkTimeIntervalIsBusy(tempStartTime, tempEndTime, linkNum) == false) {
-							intervalFound = true;
-						}
-					}
-				}
+				tempStartTime = nextNodeLinks[linkNum].findFreeWindow(tempStartTime, linkWeight);
 			}
 			nextNodeBestStartTime[i] = tempStartTime;			
 		}
@@ -536,121 +593,304 @@ public class ComputerSystem {
 			}
 		}
 		
-		bestNextLinkNum = nextNodeLinks.get(nextIndex).getLinkNumber();		
+		bestNextLinkNum = nextNodeLinks[nextIndex].getLinkNumber();		
+		window[0] = nextBestStartTime;
+		window[1] = bestCurrentLinkNum;
+		window[2] = bestNextLinkNum;
+	}
+	
+	/**
+	 * This method assigns transmission to a processor physical link.
+	 * @param schedule current schedule
+	 * @param currentProcessor current processor id
+	 * @param nextProcessor next(in the path) processor id
+	 * @param iterationStartTime start time of iteration
+	 * @param iterationEndTime end time of iteration
+	 * @param linkWeight weight of the link from task graph
+	 * @param ancestor task graph ancestor node
+	 * @param dependentGNode successor of the ancestor
+	 * @param statistics statistics of the run or null
+	 * @return best end time of the transmission
+	 */
+	private int assignTransmissionProcessorLink(ScheduleResult schedule, int currentProcessor, int nextProcessor, 
+			int iterationStartTime, int iterationEndTime, int linkWeight, GNode ancestor, 
+			GNode dependentGNode, SchedulerStatistics statistics) {
+		long time = SchedulerStatistics.start(statistics);
+		int[] window = new int[3];
+		findTransmissionWindow(schedule, currentProcessor, nextProcessor, iterationStartTime, iterationEndTime, 
+				linkWeight, window);
+		int nextBestStartTime = window[0];
 		int nextBestEndTime = nextBestStartTime + linkWeight;		
+		if (statistics != null) {
+			statistics.stop(SchedulerStatistics.WINDOW_SEARCH, time);
+			statistics.add(SchedulerStatistics.WINDOW_SEARCHES, 2 * schedule.getContext().getLinksNumber());
+			statistics.increment(SchedulerStatistics.TRANSMISSIONS);
+			time = System.nanoTime();
+		}
 		
 		DataTransmission transmission = new DataTransmission(nextBestStartTime, nextBestEndTime, 
-				ancestor, dependentGNode, currentNode, nextNode, bestCurrentLinkNum, bestNextLinkNum);
-		currentNode.getProcessorLinks().get(bestCurrentLinkNum).addScheduledTransmission(transmission);		
-		
-		for (int i = nextBestStartTime; i < nextBestEndTime; i++) {
-			currentNodeTacts.get(i).setScheduledTransmission(transmission, bestCurrentLinkNum);
-			nextNodeTacts.get(i).setProcLinkBusyFlag(true, bestNextLinkNum, 1);
+				ancestor, dependentGNode, schedule.getSystemNode(currentProcessor), 
+				schedule.getSystemNode(nextProcessor), window[1], window[2]);
+		schedule.getProcessorLinks(currentProcessor)[window[1]].addScheduledTransmission(transmission);		
+		schedule.getProcessorLinks(nextProcessor)[window[2]].addReceivedTransmission(transmission);
+		if (statistics != null) {
+			statistics.stop(SchedulerStatistics.TACT_WRITES, time);
 		}
 		return nextBestEndTime;
 	}
 	
 	/**
-	 * This method uses best system node for specified depended node and then
-	 * routes(creates zero or more transitions from ancestry system node to found best system node) data.
-	 * @param dependentGNode current task graph node
-	 * @param linkWeights link weights from ancestry to our dependent node
-	 * @param bestSystemNode system node, on which dependent graph node is assigned
+	 * This method uses best processor for specified depended node and then
+	 * routes(creates zero or more transitions from ancestry processor to found best processor) data.
+	 * @param schedule current schedule
+	 * @param dependentGNode current task graph node id
+	 * @param bestProcessor processor id, on which dependent graph node is assigned
+	 * @param statistics statistics of the run or null
 	 */
-	private void routeData(GNode dependentGNode, int[] linkWeights, SystemNode bestSystemNode) {
-		ArrayList<GNode> ancestry = dependentGNode.getPrev();
-		ArrayList<SystemNode> ancestrySysNodes = new ArrayList<>();
-		ArrayList<ArrayList<SystemNode>> paths = new ArrayList<>();
-		int[] finalTacts = new int[ancestry.size()];
+	private void routeData(ScheduleResult schedule, int dependentGNode, int bestProcessor, 
+			SchedulerStatistics statistics) {
+		GraphSnapshot snapshot = schedule.getSnapshot();
+		int ancestryStart = snapshot.getPredecessorsStart(dependentGNode);
+		int ancestryEnd = snapshot.getPredecessorsEnd(dependentGNode);
+		int[] finalTacts = new int[ancestryEnd - ancestryStart];
 		
-		for (int i = 0; i < ancestry.size(); i++) {
-			GNode ancestor = ancestry.get(i);
-			SystemNode ancestorSysNode = ancestor.getAssignedSystemNode();
-			ancestrySysNodes.add(ancestorSysNode);
-			ArrayList<SystemNode> shortestPath = findShortestPath(ancestorSysNode, bestSystemNode);
-			int iterationStartTime = ancestor.getEndTime();
-			int iterationEndTime = iterationStartTime + linkWeights[i];
+		for (int k = ancestryStart; k < ancestryEnd; k++) {
+			int ancestor = snapshot.getPredecessor(k);
+			int linkWeight = snapshot.getPredecessorWeight(k);
+			long time = SchedulerStatistics.start(statistics);
+			int[] shortestPath = schedule.getRoutingTable().getPathIds(schedule.getProcessor(ancestor), bestProcessor);
+			if (statistics != null) {
+				statistics.stop(SchedulerStatistics.ROUTING, time);
+				statistics.increment(SchedulerStatistics.PATH_LOOKUPS);
+			}
+			int iterationStartTime = schedule.getEndTime(ancestor);
+			int iterationEndTime = iterationStartTime + linkWeight;
 			
-			if (shortestPath.size() >= 2) {
-				for (int j = 0; j < shortestPath.size() - 1; j++) {
-					SystemNode currentNode = shortestPath.get(j);
-					SystemNode nextNode = shortestPath.get(j + 1);					
-					
-					iterationStartTime = assignTransmissionProcessorLink(currentNode, nextNode, iterationStartTime, iterationEndTime, 
-							linkWeights[i], ancestor, dependentGNode);
-					iterationEndTime = iterationStartTime + linkWeights[i];					
+			if (shortestPath.length >= 2) {
+				for (int j = 0; j < shortestPath.length - 1; j++) {
+					iterationStartTime = assignTransmissionProcessorLink(schedule, shortestPath[j], shortestPath[j + 1], 
+							iterationStartTime, iterationEndTime, linkWeight, schedule.getGNode(ancestor), 
+							schedule.getGNode(dependentGNode), statistics);
+					iterationEndTime = iterationStartTime + linkWeight;					
 				}				
 			}			
-			finalTacts[i] = iterationStartTime;
+			finalTacts[k - ancestryStart] = iterationStartTime;
 		}
 		
-		int depGNodeStartTime = findArrayMax(finalTacts);
-		int depGNodeEndTIme = depGNodeStartTime + dependentGNode.getTExe();
+		int tExe = snapshot.getTExe(dependentGNode);
+		long time = SchedulerStatistics.start(statistics);
+		int depGNodeStartTime = schedule.getProcessorTimeline(bestProcessor).findFreeWindow(findArrayMax(finalTacts), tExe);
+		if (statistics != null) {
+			statistics.stop(SchedulerStatistics.WINDOW_SEARCH, time);
+			statistics.increment(SchedulerStatistics.WINDOW_SEARCHES);
+			time = System.nanoTime();
+		}
+		schedule.assign(dependentGNode, bestProcessor, depGNodeStartTime, depGNodeStartTime + tExe);		
+		if (statistics != null) {
+			statistics.stop(SchedulerStatistics.TACT_WRITES, time);
+		}
+	}
+	
+	/**
+	 * Main method to assign dependent graph node to the computer system.
+	 * @param schedule current schedule
+	 * @param dependentGNode specified dependent graph node id
+	 * @param random random generator
+	 * @param statistics statistics of the run or null
+	 */
+	private void assignDependentGNode(ScheduleResult schedule, int dependentGNode, RandomSource random, 
+			SchedulerStatistics statistics) {
+		long time = SchedulerStatistics.start(statistics);
+		int selectedProcessor = -1;
+		if (schedule.getContext().getAlgorythmType() == 1) {
+			selectedProcessor = chooseRandomProcessor(schedule, random);
+		} else if (schedule.getContext().getAlgorythmType() == 5) {
+			if (schedule.getContext().isEarliestFinish()) {
+				selectedProcessor = selectEarliestFinishProcessor(schedule, dependentGNode);
+			} else {
+				selectedProcessor = selectBestProcessor(schedule, dependentGNode);
+			}
+		}		
+		if (statistics != null) {
+			statistics.stop(SchedulerStatistics.PROCESSOR_SELECTION, time);
+		}
+		routeData(schedule, dependentGNode, selectedProcessor, statistics);
+	}
+	
+	/**
+	 * Generates the queue of the graph nodes ordered by their upward ranks. Upward rank of
+	 * the node is its execution time plus the maximum of the communication and rank sums of
+	 * its successors, communication time is the link weight multiplied by the mean distance 
+	 * between processors. Each node has greater rank than its successors, nodes with equal
+	 * ranks are ordered by their ids.
+	 * @param snapshot task graph snapshot
+	 * @param routing routing tables of the computer system
+	 * @return queue of the graph node ids
+	 */
+	private int[] generateUpwardRankQueue(GraphSnapshot snapshot, RoutingTable routing) {
+		int size = snapshot.getSize();
+		double meanDistance = calculateMeanDistance(routing);
+		final double[] ranks = new double[size];
+		int[] notRankedSuccessors = new int[size];
+		int[] stack = new int[size];
+		int stackSize = 0;
 		
-		if (bestSystemNode.procTimeIntervalIsBusy(depGNodeStartTime, depGNodeEndTIme) == true) {
-			boolean intervalFound = false;
+		for (int id = 0; id < size; id++) {
+			notRankedSuccessors[id] = snapshot.getSuccessorsNumber(id);
+			if (notRankedSuccessors[id] == 0) {
+				stack[stackSize++] = id;
+			}
+		}
+		while (stackSize > 0) {
+			int id = stack[--stackSize];
+			double maxSuccessorRank = 0;
+			for (int k = snapshot.getSuccessorsStart(id); k < snapshot.getSuccessorsEnd(id); k++) {
+				double successorRank = snapshot.getSuccessorWeight(k) * meanDistance + ranks[snapshot.getSuccessor(k)];
+				if (successorRank > maxSuccessorRank) {
+					maxSuccessorRank = successorRank;
+				}
+			}
+			ranks[id] = snapshot.getTExe(id) + maxSuccessorRank;
 			
-			while (intervalFound == false) {
-				depGNodeStartTime++;
-				depGNodeEndTIme++;
-				if (bestSystemNode.procTimeIntervalIsBusy(depGNodeStartTime, depGNodeEndTIme) == false) {
-					intervalFound = true;
+			for (int k = snapshot.getPredecessorsStart(id); k < snapshot.getPredecessorsEnd(id); k++) {
+				int predecessor = snapshot.getPredecessor(k);
+				notRankedSuccessors[predecessor]--;
+				if (notRankedSuccessors[predecessor] == 0) {
+					stack[stackSize++] = predecessor;
 				}
 			}
 		}
-		assignGNodeProcessor(dependentGNode, bestSystemNode, depGNodeStartTime, depGNodeEndTIme);		
+		
+		Integer[] order = new Integer[size];
+		for (int id = 0; id < size; id++) {
+			order[id] = id;
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+			
+			@Override
+			public int compare(Integer id1, Integer id2) {
+				int result = Double.compare(ranks[id2], ranks[id1]);
+				return (result != 0) ? result : id1 - id2;
+			}
+		});
+		
+		int[] queue = new int[size];
+		for (int i = 0; i < size; i++) {
+			queue[i] = order[i];
+		}
+		return queue;
 	}
 	
 	/**
-	 * Main method to assign dependent graph node to the computer system.
-	 * @param dependentGNode specified dependent graph node
+	 * Calculates mean distance between different processors.
+	 * @param routing routing tables of the computer system
+	 * @return mean number of the hops or 0 if there is only one processor
 	 */
-	private void assignDependentGNode(GNode dependentGNode) {
-		ArrayList<GNode> ancestry = dependentGNode.getPrev();
-		int[] linkWeights = new int[ancestry.size()];		
-		
-		for (int i = 0; i < ancestry.size(); i++) {
-			linkWeights[i] = taskGraph.findGLink(ancestry.get(i), dependentGNode).getTCom();			
-		}		
-		
-		SystemNode selectedSystemNode = null;
-		if (algorythmType == 1) {
-			selectedSystemNode = chooseRandomProcessor();
-		} else if (algorythmType == 5) {
-			selectedSystemNode = selectBestSystemNode(dependentGNode);
-		}		
-		routeData(dependentGNode, linkWeights, selectedSystemNode);
+	private double calculateMeanDistance(RoutingTable routing) {
+		int processorsNumber = routing.getSize();
+		if (processorsNumber < 2) {
+			return 0;
+		}
+		long sum = 0;
+		for (int src = 0; src < processorsNumber; src++) {
+			for (int dest = 0; dest < processorsNumber; dest++) {
+				sum += routing.getDistance(src, dest);
+			}
+		}
+		return (double)sum / ((long)processorsNumber * (processorsNumber - 1));
 	}
 	
 	/**
-	 * Checks whether there are empty system nodes(i.e. don't contain any scheduled
-	 * task graph nodes).
-	 * @return true if there are empty system nodes
+	 * Calculates the earliest finish time of the graph node on the processor. Data of each
+	 * ancestor is routed hop by hop through the free windows of the physical links like
+	 * routeData does, but nothing is written, so transmissions of the different ancestors 
+	 * don't compete in this estimation. The node is inserted into the first free window of
+	 * the processor after all the data arrive.
+	 * @param schedule current schedule
+	 * @param gnode graph node id
+	 * @param processor processor id
+	 * @param window auxiliary array for the transmission windows
+	 * @return finish time
 	 */
-	private boolean emptySystemNodesInSystem() {
-		for (SystemNode sysNode : nodeList) {
-			if (sysNode.getScheduledNodes().isEmpty()) {
-				return true;
+	private int calculateEarliestFinishTime(ScheduleResult schedule, int gnode, int processor, int[] window) {
+		GraphSnapshot snapshot = schedule.getSnapshot();
+		RoutingTable routing = schedule.getRoutingTable();
+		int readyTime = 0;
+		
+		for (int k = snapshot.getPredecessorsStart(gnode); k < snapshot.getPredecessorsEnd(gnode); k++) {
+			int ancestor = snapshot.getPredecessor(k);
+			int linkWeight = snapshot.getPredecessorWeight(k);
+			int[] path = routing.getPathIds(schedule.getProcessor(ancestor), processor);
+			int arrivalTime = schedule.getEndTime(ancestor);
+			
+			for (int j = 0; j < path.length - 1; j++) {
+				findTransmissionWindow(schedule, path[j], path[j + 1], arrivalTime, arrivalTime + linkWeight, 
+						linkWeight, window);
+				arrivalTime = window[0] + linkWeight;
+			}
+			if (arrivalTime > readyTime) {
+				readyTime = arrivalTime;
 			}
 		}
-		return false;
+		int tExe = snapshot.getTExe(gnode);
+		return schedule.getProcessorTimeline(processor).findFreeWindow(readyTime, tExe) + tExe;
 	}
 	
 	/**
-	 * Calculates the priority of the computer system nodes.
+	 * Searches for processor, on which the graph node finishes first. Unlike selectBestProcessor
+	 * it takes into account when the processor and the links on the paths are free. Processors
+	 * are checked from the most connected one, so it wins when finish times are equal.
+	 * @param schedule current schedule
+	 * @param gnode graph node id
+	 * @return found processor id
 	 */
-	private void calculateSystemNodesPriority() {
-		for (SystemNode sysNode : nodeList) {
-			sysNode.calculatePriority();
+	private int selectEarliestFinishProcessor(ScheduleResult schedule, int gnode) {
+		int bestProcessor = -1;
+		int bestFinishTime = Integer.MAX_VALUE;
+		int[] window = new int[3];
+		
+		for (int i = schedule.getProcessorsNumber() - 1; i >= 0; i--) {
+			int processor = schedule.getProcessorByPriority(i);
+			int finishTime = calculateEarliestFinishTime(schedule, gnode, processor, window);
+			if (finishTime < bestFinishTime) {
+				bestFinishTime = finishTime;
+				bestProcessor = processor;
+			}
 		}
+		return bestProcessor;
 	}
 	
 	/**
-	 * Sorts system nodes using their priority property.
+	 * Assigns graph node with HEFT algorithm(6). Processor with the earliest finish time is
+	 * chosen, then data are routed to it like in the other algorithms.
+	 * @param schedule current schedule
+	 * @param gnode graph node id
+	 * @param statistics statistics of the run or null
 	 */
-	private void sortSystemNodesByPriority() {
-		Collections.sort(nodeList, new ComputerSystem.SortByPriority());
-	}	
+	private void assignEarliestFinishGNode(ScheduleResult schedule, int gnode, SchedulerStatistics statistics) {
+		long time = SchedulerStatistics.start(statistics);
+		int processor = selectEarliestFinishProcessor(schedule, gnode);
+		if (statistics != null) {
+			statistics.stop(SchedulerStatistics.PROCESSOR_SELECTION, time);
+		}
+		
+		if (schedule.getSnapshot().getPredecessorsNumber(gnode) > 0) {
+			routeData(schedule, gnode, processor, statistics);
+		} else {
+			int tExe = schedule.getSnapshot().getTExe(gnode);
+			time = SchedulerStatistics.start(statistics);
+			int startTime = schedule.getProcessorTimeline(processor).findFreeWindow(0, tExe);
+			if (statistics != null) {
+				statistics.stop(SchedulerStatistics.WINDOW_SEARCH, time);
+				statistics.increment(SchedulerStatistics.WINDOW_SEARCHES);
+				time = System.nanoTime();
+			}
+			schedule.assign(gnode, processor, startTime, startTime + tExe);
+			if (statistics != null) {
+				statistics.stop(SchedulerStatistics.TACT_WRITES, time);
+			}
+		}
+	}
 	
 	/**
 	 * Searches for system node with specified index.
@@ -667,67 +907,102 @@ public class ComputerSystem {
 	}
 	
 	/**
-	 * Generates forward path, using "prev" fields of the system node. 
-	 * @param destNode destination node from which we start to build forward path
-	 * @return a list of system nodes
+	 * Returns routing tables of the computer system. Tables are built only if system nodes 
+	 * or links were changed since the last call.
+	 * @return routing tables
 	 */
-	private ArrayList<SystemNode> generateForwardPath(SystemNode destNode) {
-		ArrayList<SystemNode> reversePath = new ArrayList<>();
-		ArrayList<SystemNode> forwardPath = new ArrayList<>();
-		SystemNode currentNode = destNode;
-		
-		while (currentNode.getPrev() != null) {
-			reversePath.add(currentNode);
-			currentNode = currentNode.getPrev();
-		}
-		reversePath.add(currentNode);
-		for (int i = reversePath.size() - 1; i >= 0; i--) {
-			forwardPath.add(reversePath.get(i));
+	public RoutingTable getRoutingTable() {
+		return getRoutingTable(null);
+	}
+	
+	/**
+	 * Returns routing tables of the computer system. If tables are built by this call, 
+	 * time of the building and number of the breadth-first searches are added to the statistics.
+	 * @param statistics statistics of the run or null
+	 * @return routing tables
+	 */
+	public RoutingTable getRoutingTable(SchedulerStatistics statistics) {
+		RoutingTable table = routingTable;
+		if (table == null) {
+			long time = SchedulerStatistics.start(statistics);
+			table = new RoutingTable(nodeList);
+			routingTable = table;
+			if (statistics != null) {
+				statistics.stop(SchedulerStatistics.ROUTING, time);
+				statistics.add(SchedulerStatistics.BFS_CALLS, table.getSize());
+			}
 		}
-		return forwardPath;
+		return table;
 	}
 	
 	/**
-	 * This method searches for shortest path in the graph of computer system using breadth-first search.
-	 * @param srcNode source node
-	 * @param destNode destination node
-	 * @return a list of system nodes which is the shortest path between specified system nodes
+	 * Drops routing tables, so they are rebuilt on the next use. It should be called 
+	 * after system nodes or links are changed not through the methods of this class.
 	 */
-	private ArrayList<SystemNode> findShortestPath(SystemNode srcNode, SystemNode destNode) {						
-		for (SystemNode node : nodeList) {			
-			node.setUsed(false);
-			node.setPrev(null);
-		}	
-		
-		if (srcNode.equals(destNode)) {
-			ArrayList<SystemNode> oneNodePath = new ArrayList<>();
-			oneNodePath.add(srcNode);
-			return oneNodePath;
-		} else {
-			ArrayList<SystemNode> queue = new ArrayList<>();		
-			queue.add(srcNode);
-			srcNode.setUsed(true);
-			
-			while (!queue.isEmpty()) {				
-				SystemNode currentNode = queue.get(0);				
-				
-				ArrayList<SystemNode> neighbours = currentNode.getNeighbours();			
-				
-				for (SystemNode neighbour : neighbours) {
-					if (neighbour.isUsed() == false) {
-						neighbour.setPrev(currentNode);
-						if (neighbour == destNode) {
-							return generateForwardPath(destNode);
-						}
-						queue.add(neighbour);
-						neighbour.setUsed(true);															
-					}
-				}			
-				queue.remove(0);			
+	public void invalidateRoutingTable() {
+		routingTable = null;
+	}
+	
+	/**
+	 * Adds system node to the computer system.
+	 * @param sysNode system node to add
+	 */
+	public void addSystemNode(SystemNode sysNode) {
+		nodeList.add(sysNode);
+		invalidateRoutingTable();
+	}
+	
+	/**
+	 * Removes system node and all its links from the computer system.
+	 * @param sysNode system node to remove
+	 */
+	public void removeSystemNode(SystemNode sysNode) {
+		ArrayList<SystemLink> nodeLinks = new ArrayList<>();
+		for (SystemLink link : linkList) {
+			if (link.getFirstNode() == sysNode || link.getSecondNode() == sysNode) {
+				nodeLinks.add(link);
 			}
-		}					
-		return null;
-	}		
+		}
+		for (SystemLink link : nodeLinks) {
+			removeSystemLink(link);
+		}
+		for (SystemNode neighbour : sysNode.getNeighbours()) {
+			neighbour.getNeighbours().remove(sysNode);
+		}
+		sysNode.getNeighbours().clear();
+		nodeList.remove(sysNode);
+		invalidateRoutingTable();
+	}
+	
+	/**
+	 * Adds system link to the computer system. Link nodes are connected by the link constructor.
+	 * @param link system link to add
+	 */
+	public void addSystemLink(SystemLink link) {
+		linkList.add(link);
+		invalidateRoutingTable();
+	}
+	
+	/**
+	 * Removes system link and disconnects its nodes.
+	 * @param link system link to remove
+	 */
+	public void removeSystemLink(SystemLink link) {
+		link.getFirstNode().getNeighbours().remove(link.getSecondNode());
+		link.getSecondNode().getNeighbours().remove(link.getFirstNode());
+		linkList.remove(link);
+		invalidateRoutingTable();
+	}
+	
+	/**
+	 * Removes all system nodes and links.
+	 */
+	public void clear() {
+		nodeList.clear();
+		linkList.clear();
+		nextIndex = 0;
+		invalidateRoutingTable();
+	}
 	
 	/**
 	 * Accessor to the name field value.
@@ -745,6 +1020,26 @@ public class ComputerSystem {
 		this.name = name;
 	}
 	
+	/**
+	 * Accessor to the parallel threshold field.
+	 * @return minimum number of the processors for the parallel evaluation of the candidates
+	 */
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+	
+	/**
+	 * Sets a value of the parallel threshold field. Candidate processors of algorithm 5 are
+	 * evaluated in parallel when the system has at least this number of processors.
+	 * @param parallelThreshold minimum number of the processors, Integer.MAX_VALUE to turn it off
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+		if (parallelThreshold < 1) {
+			throw new IllegalArgumentException("Parallel threshold should be positive: " + parallelThreshold);
+		}
+		this.parallelThreshold = parallelThreshold;
+	}
+	
 	/**
 	 * Accessor to the system nodes list field.
 	 * @return a list of the system nodes
@@ -759,6 +1054,7 @@ public class ComputerSystem {
 	 */
 	public void setNodeList(ArrayList<SystemNode> nodeList) {
 		this.nodeList = nodeList;
+		invalidateRoutingTable();
 	}
 	
 	/**
@@ -775,6 +1071,76 @@ public class ComputerSystem {
 	 */
 	public void setLinkList(ArrayList<SystemLink> linkList) {
 		this.linkList = linkList;
+		invalidateRoutingTable();
+	}
+	
+	/**
+	 * Task to evaluate the chunk of the candidate processors.
+	 * @author Yaroslav
+	 *
+	 */
+	private class CandidatesChunk extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * Current schedule.
+		 */
+		private final ScheduleResult schedule;
+		
+		/**
+		 * Id of the dependent graph node.
+		 */
+		private final int dependentGNode;
+		
+		/**
+		 * Processors of the ancestry.
+		 */
+		private final int[] ancestryProcessors;
+		
+		/**
+		 * Start times by the priority positions, shared by all the chunks.
+		 */
+		private final int[] startTime;
+		
+		/**
+		 * First position of the chunk.
+		 */
+		private final int from;
+		
+		/**
+		 * Position after the last one of the chunk.
+		 */
+		private final int to;
+		
+		/**
+		 * Position of the best processor of the chunk.
+		 */
+		private int bestPosition;
+		
+		/**
+		 * Main constructor.
+		 * @param schedule current schedule
+		 * @param dependentGNode id of the dependent graph node
+		 * @param ancestryProcessors processors of the ancestry
+		 * @param startTime start times by the priority positions
+		 * @param from first position
+		 * @param to position after the last one
+		 */
+		public CandidatesChunk(ScheduleResult schedule, int dependentGNode, int[] ancestryProcessors, int[] startTime, 
+				int from, int to) {
+			this.schedule = schedule;
+			this.dependentGNode = dependentGNode;
+			this.ancestryProcessors = ancestryProcessors;
+			this.startTime = startTime;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected void compute() {
+			bestPosition = findBestCandidate(schedule, dependentGNode, ancestryProcessors, startTime, from, to);
+		}
 	}
 	
 	/**
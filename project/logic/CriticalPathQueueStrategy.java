@@ -0,0 +1,72 @@
+package project.logic;
+
+/**
+ * Queue type with code 1. Graph nodes are sorted by descending priority, which is the sum
+ * of the node critical path time and critical path nodes number, both divided by the 
+ * corresponding values of the whole graph.
+ * @author Yaroslav
+ *
+ */
+public class CriticalPathQueueStrategy implements QueueStrategy {
+	
+	@Override
+	public int getQueueType() {
+		return 1;
+	}
+	
+	@Override
+	public double[] calculateKeys(GraphSnapshot snapshot) {
+		int size = snapshot.getSize();
+		int[] cpTimes = new int[size];
+		int[] cpGNodeNumbers = new int[size];
+		snapshot.calculateCriticalPaths(0, 1, cpTimes, cpGNodeNumbers);
+		int graphCPTime = ComputerSystem.findArrayMax(cpTimes);
+		int graphCPGNodeNumber = ComputerSystem.findArrayMax(cpGNodeNumbers);
+		double[] keys = new double[size];
+		
+		for (int id = 0; id < size; id++) {
+			keys[id] = -calculatePriority(cpTimes[id], cpGNodeNumbers[id], graphCPTime, graphCPGNodeNumber);
+		}
+		return keys;
+	}
+	
+	/**
+	 * Calculates priority of the graph node.
+	 * @param cpTime critical path time of the node
+	 * @param cpGNodeNumber number of the nodes on the critical path of the node
+	 * @param graphCPTime critical path time of the graph
+	 * @param graphCPGNodeNumber number of the nodes on the critical path of the graph
+	 * @return priority value
+	 */
+	private static double calculatePriority(int cpTime, int cpGNodeNumber, int graphCPTime, int graphCPGNodeNumber) {
+		return (double)cpTime / graphCPTime + (double)cpGNodeNumber / graphCPGNodeNumber;
+	}
+	
+	@Override
+	public String generateQueueInfo(GraphSnapshot snapshot, int[] queueOrder) {
+		String blockSeparator = "--------------------------------\n";
+		int size = snapshot.getSize();
+		int[] cpTimes = new int[size];
+		int[] cpGNodeNumbers = new int[size];
+		snapshot.calculateCriticalPaths(0, 1, cpTimes, cpGNodeNumbers);
+		int graphCPTime = ComputerSystem.findArrayMax(cpTimes);
+		int graphCPGNodeNumber = ComputerSystem.findArrayMax(cpGNodeNumbers);
+		String[] priorities = new String[size];
+		StringBuilder info = new StringBuilder();
+		
+		info.append("T = ").append(graphCPTime).append('\n');
+		info.append("N = ").append(graphCPGNodeNumber).append('\n');
+		info.append(blockSeparator);
+		
+		for (int id : queueOrder) {
+			int index = snapshot.getGNodeIndex(id);
+			info.append('T').append(index).append(" = ").append(cpTimes[id]).append('\n');
+			info.append('N').append(index).append(" = ").append(cpGNodeNumbers[id]).append('\n');
+			info.append(blockSeparator);
+			priorities[id] = String.valueOf(calculatePriority(cpTimes[id], cpGNodeNumbers[id], 
+					graphCPTime, graphCPGNodeNumber));
+		}
+		info.append(QueueStrategies.generateQueueLine(snapshot, queueOrder, priorities));
+		return info.toString();
+	}
+}
@@ -0,0 +1,41 @@
+package project.logic;
+
+/**
+ * Queue type with code 16. Graph nodes are sorted by ascending critical path time from the 
+ * start of the graph to the node(the node itself is not included).
+ * @author Yaroslav
+ *
+ */
+public class CriticalTimeQueueStrategy implements QueueStrategy {
+	
+	@Override
+	public int getQueueType() {
+		return 16;
+	}
+	
+	@Override
+	public double[] calculateKeys(GraphSnapshot snapshot) {
+		int[] cpTimes = new int[snapshot.getSize()];
+		int[] cpGNodeNumbers = new int[snapshot.getSize()];
+		snapshot.calculateCriticalPaths(1, 16, cpTimes, cpGNodeNumbers);
+		double[] keys = new double[cpTimes.length];
+		
+		for (int id = 0; id < keys.length; id++) {
+			keys[id] = cpTimes[id];
+		}
+		return keys;
+	}
+	
+	@Override
+	public String generateQueueInfo(GraphSnapshot snapshot, int[] queueOrder) {
+		int[] cpTimes = new int[snapshot.getSize()];
+		int[] cpGNodeNumbers = new int[snapshot.getSize()];
+		snapshot.calculateCriticalPaths(1, 16, cpTimes, cpGNodeNumbers);
+		String[] values = new String[cpTimes.length];
+		
+		for (int id = 0; id < values.length; id++) {
+			values[id] = String.valueOf(cpTimes[id]);
+		}
+		return QueueStrategies.generateQueueLine(snapshot, queueOrder, values);
+	}
+}
@@ -0,0 +1,140 @@
+package project.logic;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Writes each table to its own CSV file named "prefix-table.csv"(table name is in lower case).
+ * First line of the file contains the names of the columns. Messages are not written.
+ * @author Yaroslav
+ *
+ */
+public class CsvResultSink implements ResultSink {
+
+	/**
+	 * Prefix of the file names.
+	 */
+	private final String prefix;
+
+	/**
+	 * File of the current table, null if there is no table.
+	 */
+	private BufferedWriter out;
+
+	/**
+	 * Reusable buffer of the row.
+	 */
+	private final StringBuilder row;
+
+	/**
+	 * Number of the cells in the row buffer.
+	 */
+	private int cellsNumber;
+
+	/**
+	 * Main constructor.
+	 * @param prefix prefix of the file names
+	 */
+	public CsvResultSink(String prefix) {
+		this.prefix = prefix;
+		row = new StringBuilder();
+	}
+
+	/**
+	 * Returns the name of the file of the table.
+	 * @param prefix prefix of the file names
+	 * @param name name of the table
+	 * @return file name
+	 */
+	public static String getFilename(String prefix, String name) {
+		return prefix + "-" + name.toLowerCase() + ".csv";
+	}
+
+	@Override
+	public void startTable(String name, String[] labelNames, String[] columnNames) throws IOException {
+		endTable();
+		out = Files.newBufferedWriter(Paths.get(getFilename(prefix, name)), StandardCharsets.UTF_8);
+		clearRow();
+		appendCells(labelNames);
+		appendCells(columnNames);
+		writeLine();
+	}
+
+	@Override
+	public void writeRow(String[] labels, double[] values) throws IOException {
+		if (out == null) {
+			throw new IllegalStateException("Table is not started");
+		}
+		clearRow();
+		appendCells(labels);
+		for (double value : values) {
+			startCell();
+			row.append(value);
+		}
+		writeLine();
+	}
+
+	@Override
+	public void endTable() throws IOException {
+		if (out != null) {
+			try {
+				out.close();
+			} finally {
+				out = null;
+			}
+		}
+	}
+
+	@Override
+	public void writeMessage(String message) {
+	}
+
+	@Override
+	public void close() throws IOException {
+		endTable();
+	}
+
+	/**
+	 * Appends the text cells to the row. Cells with commas or quotes are quoted.
+	 * @param cells text cells
+	 */
+	private void appendCells(String[] cells) {
+		for (String cell : cells) {
+			startCell();
+			if ((cell.indexOf(',') >= 0) || (cell.indexOf('"') >= 0) || (cell.indexOf('\n') >= 0)) {
+				row.append('"').append(cell.replace("\"", "\"\"")).append('"');
+			} else {
+				row.append(cell);
+			}
+		}
+	}
+
+	/**
+	 * Clears the row buffer.
+	 */
+	private void clearRow() {
+		row.setLength(0);
+		cellsNumber = 0;
+	}
+
+	/**
+	 * Appends the separator before the next cell of the row.
+	 */
+	private void startCell() {
+		if (cellsNumber++ > 0) {
+			row.append(',');
+		}
+	}
+
+	/**
+	 * Writes the row buffer as the line of the file.
+	 * @throws IOException if line can't be written
+	 */
+	private void writeLine() throws IOException {
+		out.append(row);
+		out.newLine();
+	}
+}
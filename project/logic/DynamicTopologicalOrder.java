@@ -0,0 +1,243 @@
+package project.logic;
+
+import java.util.Arrays;
+
+/**
+ * Topological order of the graph, which is maintained while new transitions are added
+ * (Pearce-Kelly algorithm). When new transition goes forward in the current order nothing
+ * has to be done. Otherwise only the nodes between the source and destination positions are
+ * searched and reordered, so it is quickly found out whether transition creates a cycle or not.
+ * Nodes are identified by numbers from 0 to size - 1.
+ * @author Yaroslav
+ *
+ */
+class DynamicTopologicalOrder {
+
+	/**
+	 * Position of each node in the topological order.
+	 */
+	private int[] order;
+
+	/**
+	 * Node located on each position of the topological order.
+	 */
+	private int[] nodes;
+
+	/**
+	 * Successors of each node.
+	 */
+	private int[][] successors;
+
+	/**
+	 * Number of the successors of each node.
+	 */
+	private int[] successorsNumber;
+
+	/**
+	 * Ancestry of each node.
+	 */
+	private int[][] predecessors;
+
+	/**
+	 * Number of the ancestry of each node.
+	 */
+	private int[] predecessorsNumber;
+
+	/**
+	 * Visit marks of the nodes. Node is visited if its mark is equal to the current mark.
+	 */
+	private int[] marks;
+
+	/**
+	 * Current visit mark.
+	 */
+	private int currentMark;
+
+	/**
+	 * Stack of the depth-first search.
+	 */
+	private int[] stack;
+
+	/**
+	 * Positions of the nodes found by forward search.
+	 */
+	private int[] forwardPositions;
+
+	/**
+	 * Number of the nodes found by forward search.
+	 */
+	private int forwardSize;
+
+	/**
+	 * Positions of the nodes found by backward search.
+	 */
+	private int[] backwardPositions;
+
+	/**
+	 * Number of the nodes found by backward search.
+	 */
+	private int backwardSize;
+
+	/**
+	 * Main constructor. Creates order of the nodes without transitions.
+	 * @param size number of the nodes
+	 */
+	public DynamicTopologicalOrder(int size) {
+		order = new int[size];
+		nodes = new int[size];
+		successors = new int[size][];
+		successorsNumber = new int[size];
+		predecessors = new int[size][];
+		predecessorsNumber = new int[size];
+		marks = new int[size];
+		stack = new int[size];
+		forwardPositions = new int[size];
+		backwardPositions = new int[size];
+
+		for (int i = 0; i < size; i++) {
+			order[i] = i;
+			nodes[i] = i;
+			successors[i] = new int[2];
+			predecessors[i] = new int[2];
+		}
+	}
+
+	/**
+	 * Adds transition if it doesn't create a cycle.
+	 * @param src source node
+	 * @param dest destination node
+	 * @return true if transition is added, false if it creates a cycle
+	 */
+	public boolean addTransition(int src, int dest) {
+		if (src == dest) {
+			return false;
+		}
+		int lowerBound = order[dest];
+		int upperBound = order[src];
+
+		if (lowerBound < upperBound) {
+			currentMark++;
+			if (searchForward(dest, upperBound) == false) {
+				return false;
+			}
+			searchBackward(src, lowerBound);
+			reorder();
+		}
+		successors[src] = append(successors[src], successorsNumber[src]++, dest);
+		predecessors[dest] = append(predecessors[dest], predecessorsNumber[dest]++, src);
+		return true;
+	}
+
+	/**
+	 * Accessor to the position of the node in the topological order.
+	 * @param node node number
+	 * @return position of the node
+	 */
+	public int getOrder(int node) {
+		return order[node];
+	}
+
+	/**
+	 * Visits the nodes reachable from the start node, which are located not after upper bound.
+	 * @param start start node
+	 * @param upperBound position of the source node of new transition
+	 * @return false if source node is reachable, i.e. transition creates a cycle
+	 */
+	private boolean searchForward(int start, int upperBound) {
+		int stackSize = 0;
+		forwardSize = 0;
+		marks[start] = currentMark;
+		stack[stackSize++] = start;
+
+		while (stackSize > 0) {
+			int v = stack[--stackSize];
+			forwardPositions[forwardSize++] = order[v];
+
+			for (int k = 0; k < successorsNumber[v]; k++) {
+				int w = successors[v][k];
+				if (order[w] == upperBound) {
+					return false;
+				}
+				if ((marks[w] != currentMark) && (order[w] < upperBound)) {
+					marks[w] = currentMark;
+					stack[stackSize++] = w;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Visits the nodes, from which the start node is reachable and which are located not before lower bound.
+	 * @param start start node
+	 * @param lowerBound position of the destination node of new transition
+	 */
+	private void searchBackward(int start, int lowerBound) {
+		int stackSize = 0;
+		backwardSize = 0;
+		marks[start] = currentMark;
+		stack[stackSize++] = start;
+
+		while (stackSize > 0) {
+			int v = stack[--stackSize];
+			backwardPositions[backwardSize++] = order[v];
+
+			for (int k = 0; k < predecessorsNumber[v]; k++) {
+				int w = predecessors[v][k];
+				if ((marks[w] != currentMark) && (order[w] > lowerBound)) {
+					marks[w] = currentMark;
+					stack[stackSize++] = w;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Moves the nodes found by backward search before the nodes found by forward search.
+	 * Both groups keep their relative order and take the same set of positions.
+	 */
+	private void reorder() {
+		Arrays.sort(backwardPositions, 0, backwardSize);
+		Arrays.sort(forwardPositions, 0, forwardSize);
+		int total = backwardSize + forwardSize;
+		int[] movedNodes = new int[total];
+		int[] positions = new int[total];
+
+		for (int i = 0; i < backwardSize; i++) {
+			movedNodes[i] = nodes[backwardPositions[i]];
+		}
+		for (int i = 0; i < forwardSize; i++) {
+			movedNodes[backwardSize + i] = nodes[forwardPositions[i]];
+		}
+
+		int i = 0;
+		int j = 0;
+		for (int k = 0; k < total; k++) {
+			if ((j >= forwardSize) || ((i < backwardSize) && (backwardPositions[i] < forwardPositions[j]))) {
+				positions[k] = backwardPositions[i++];
+			} else {
+				positions[k] = forwardPositions[j++];
+			}
+		}
+
+		for (int k = 0; k < total; k++) {
+			order[movedNodes[k]] = positions[k];
+			nodes[positions[k]] = movedNodes[k];
+		}
+	}
+
+	/**
+	 * Appends value to the array, array is enlarged if it is full.
+	 * @param array array to append
+	 * @param length number of the used elements
+	 * @param value value to append
+	 * @return array with appended value
+	 */
+	private static int[] append(int[] array, int length, int value) {
+		if (length == array.length) {
+			array = Arrays.copyOf(array, length * 2);
+		}
+		array[length] = value;
+		return array;
+	}
+}
@@ -1,10 +1,9 @@
 package project.logic;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
-
-import javax.swing.JTextArea;
+import java.util.HashMap;
 
 /**
  * This class describes acyclic directed graph, which represents the task to solve
@@ -24,6 +23,16 @@ public class Graph {
 	 */
 	private ArrayList<GLink> glinkList;
 	
+	/**
+	 * Index of the graph nodes by their unique index.
+	 */
+	private LongKeyMap<GNode> gnodeIndex;
+	
+	/**
+	 * Index of the graph transitions by the pair of indexes of their source and destination nodes.
+	 */
+	private LongKeyMap<GLink> glinkIndex;
+	
 	/**
 	 * A list to store cycles.
 	 */
@@ -35,19 +44,24 @@ public class Graph {
 	private ArrayList<GNode> queue;	
 	
 	/**
-	 * A pointer to the console text area.
+	 * Snapshot of the graph, on which the queue was generated.
 	 */
-	private JTextArea console;
+	private GraphSnapshot snapshot;
 	
 	/**
-	 * Critical path time of the graph.
+	 * Ids of the snapshot graph nodes in the order of the queue.
 	 */
-	private int cpTime;
+	private int[] queueOrder;
 	
 	/**
-	 * Number of the nodes on the critical path.
+	 * Index of the next created graph node.
 	 */
-	private int cpGNodeNumber;	
+	private int nextIndex;
+	
+	/**
+	 * A pointer to the console printer.
+	 */
+	private MessagePrinter console;
 	
 	/**
 	 * Additional constructor.
@@ -55,15 +69,20 @@ public class Graph {
 	public Graph() {
 		gnodeList = new ArrayList<>();
 		glinkList = new ArrayList<>();
+		gnodeIndex = new LongKeyMap<>();
+		glinkIndex = new LongKeyMap<>();
+		cycles = new ArrayList<>();
 	}
 	
 	/**
 	 * Main constructor.
-	 * @param console a pointer to the conosole object
+	 * @param console a pointer to the conosole printer
 	 */
-	public Graph(JTextArea console) {
+	public Graph(MessagePrinter console) {
 		gnodeList = new ArrayList<>();
 		glinkList = new ArrayList<>();
+		gnodeIndex = new LongKeyMap<>();
+		glinkIndex = new LongKeyMap<>();
 		cycles = new ArrayList<>();
 		this.console = console;
 	}
@@ -105,6 +124,22 @@ public class Graph {
 		return queue;
 	}
 	
+	/**
+	 * Accessor to the snapshot field.
+	 * @return snapshot of the graph, on which the queue was generated
+	 */
+	public GraphSnapshot getSnapshot() {
+		return snapshot;
+	}
+	
+	/**
+	 * Accessor to the queue order field.
+	 * @return ids of the snapshot graph nodes in the order of the queue
+	 */
+	public int[] getQueueOrder() {
+		return queueOrder;
+	}
+	
 	/**
 	 * This method is used to set a value of the nextIndex field.
 	 * It's useful when we delete any graph nodes from the workspace.
@@ -117,9 +152,47 @@ public class Graph {
 			}
 		}
 		maxIndex++;
-		GNode.nextIndex = maxIndex;
+		nextIndex = maxIndex;
+	}
+	
+	/**
+	 * Generates unique index for the new graph node.
+	 * @return graph node index
+	 */
+	public int generateIndex() {
+		return nextIndex++;
 	}	
 	
+	/**
+	 * Generates the key of the transition index from the indexes of its nodes.
+	 * @param srcIndex index of the source node
+	 * @param destIndex index of the destination node
+	 * @return transition key
+	 */
+	private static long glinkKey(int srcIndex, int destIndex) {
+		return ((long)srcIndex << 32) | (destIndex & 0xFFFFFFFFL);
+	}
+	
+	/**
+	 * Rebuilds graph nodes index using the graph nodes list.
+	 */
+	private void rebuildGNodeIndex() {
+		gnodeIndex.clear();
+		for (GNode gnode : gnodeList) {
+			gnodeIndex.put(gnode.getIndex(), gnode);
+		}
+	}
+	
+	/**
+	 * Rebuilds transitions index using the transitions list.
+	 */
+	private void rebuildGLinkIndex() {
+		glinkIndex.clear();
+		for (GLink glink : glinkList) {
+			glinkIndex.put(glinkKey(glink.getStart().getIndex(), glink.getEnd().getIndex()), glink);
+		}
+	}
+	
 	/**
 	 * Searches for transition using source and destination nodes
 	 * @param srcNode source node
@@ -127,10 +200,9 @@ public class Graph {
 	 * @return found transition
 	 */
 	public GLink findGLink(GNode srcNode, GNode destNode) {
-		for (GLink glink : glinkList) {
-			if (glink.getStart().equals(srcNode) && glink.getEnd().equals(destNode)) {
-				return glink;
-			}
+		GLink glink = glinkIndex.get(glinkKey(srcNode.getIndex(), destNode.getIndex()));
+		if ((glink != null) && (glink.getStart() == srcNode) && (glink.getEnd() == destNode)) {
+			return glink;
 		}
 		return null;
 	}
@@ -140,13 +212,8 @@ public class Graph {
 	 * @param index index of the node
 	 * @return found node
 	 */
-	private GNode getGNodeByIndex(int index) {
-		for (GNode gnode : gnodeList) {
-			if (gnode.getIndex() == index) {
-				return gnode;
-			}
-		}
-		return null;
+	public GNode getGNodeByIndex(int index) {
+		return gnodeIndex.get(index);
 	}
 	
 	/**
@@ -155,12 +222,88 @@ public class Graph {
 	 * @param end destination node
 	 * @return true if they are connected
 	 */
-	private boolean areConnected(GNode start, GNode end) {
-		for (GLink glink : glinkList) {			 
-			if (glink.getStart().equals(start) && glink.getEnd().equals(end)) return true;
-			if (glink.getEnd().equals(start) && glink.getStart().equals(end)) return true;
+	public boolean areConnected(GNode start, GNode end) {
+		return (findGLink(start, end) != null) || (findGLink(end, start) != null);
+	}
+	
+	/**
+	 * Adds graph node to the graph.
+	 * @param gnode graph node to add
+	 */
+	public void addGNode(GNode gnode) {
+		gnodeList.add(gnode);
+		gnodeIndex.put(gnode.getIndex(), gnode);
+	}
+	
+	/**
+	 * Removes graph node and all its transitions from the graph.
+	 * @param gnode graph node to remove
+	 */
+	public void removeGNode(GNode gnode) {
+		for (GNode prevNode : new ArrayList<>(gnode.getPrev())) {
+			removeGLink(findGLink(prevNode, gnode));
 		}
-		return false;
+		for (GNode nextNode : new ArrayList<>(gnode.getNext())) {
+			removeGLink(findGLink(gnode, nextNode));
+		}
+		gnodeList.remove(gnode);
+		gnodeIndex.remove(gnode.getIndex());
+	}
+	
+	/**
+	 * Adds transition to the graph. Transition nodes are connected in the constructor of the transition.
+	 * @param glink transition to add
+	 */
+	public void addGLink(GLink glink) {
+		glinkList.add(glink);
+		glinkIndex.put(glinkKey(glink.getStart().getIndex(), glink.getEnd().getIndex()), glink);
+	}
+	
+	/**
+	 * Removes transition from the graph and disconnects its nodes.
+	 * @param glink transition to remove
+	 */
+	public void removeGLink(GLink glink) {
+		glink.getStart().getNext().remove(glink.getEnd());
+		glink.getEnd().getPrev().remove(glink.getStart());
+		glinkList.remove(glink);
+		glinkIndex.remove(glinkKey(glink.getStart().getIndex(), glink.getEnd().getIndex()));
+	}
+	
+	/**
+	 * Changes the index of the graph node and updates the keys of its transitions.
+	 * @param gnode graph node
+	 * @param index new unique index
+	 */
+	public void setGNodeIndex(GNode gnode, int index) {
+		ArrayList<GLink> glinks = new ArrayList<>();
+		
+		for (GNode prevNode : gnode.getPrev()) {
+			glinks.add(findGLink(prevNode, gnode));
+		}
+		for (GNode nextNode : gnode.getNext()) {
+			glinks.add(findGLink(gnode, nextNode));
+		}
+		for (GLink glink : glinks) {
+			glinkIndex.remove(glinkKey(glink.getStart().getIndex(), glink.getEnd().getIndex()));
+		}
+		gnodeIndex.remove(gnode.getIndex());
+		gnode.setIndex(index);
+		gnodeIndex.put(index, gnode);
+		for (GLink glink : glinks) {
+			glinkIndex.put(glinkKey(glink.getStart().getIndex(), glink.getEnd().getIndex()), glink);
+		}
+	}
+	
+	/**
+	 * Removes all the graph nodes and transitions.
+	 */
+	public void clear() {
+		gnodeList.clear();
+		glinkList.clear();
+		gnodeIndex.clear();
+		glinkIndex.clear();
+		nextIndex = 0;
 	}
 	
 	/**
@@ -180,38 +323,18 @@ public class Graph {
 	 * @return information message string
 	 */
 	private String generateCyclesInfo() {
-		String info = "";
+		StringBuilder info = new StringBuilder();
 		int currentCycleNumber = 1;
 		
 		for (ArrayList<GNode> cycle : cycles) {
-			info += ("Cycle #" + currentCycleNumber + ": ");
+			info.append("Cycle #").append(currentCycleNumber).append(": ");
 			for (GNode gnode : cycle) {
-				info += (gnode.getIndex() + " ");
+				info.append(gnode.getIndex()).append(' ');
 			}
-			info += "\n";			
+			info.append('\n');			
 			currentCycleNumber++;
 		}		
-		return info;
-	}
-	
-	/**
-	 * Sorts graph nodes list by priority.
-	 * @param gnodeList a list of the graph nodes
-	 */
-	private void sortGnodeListByPriority(ArrayList<GNode> gnodeList) {
-		boolean sorted = false;
-		
-		while (sorted == false) {
-			sorted = true;
-			for (int i = 0; i < gnodeList.size() - 1; i++) {
-				GNode currentGNode = gnodeList.get(i);
-				GNode nextGNode = gnodeList.get(i + 1);
-				if (currentGNode.getPriority() < nextGNode.getPriority()) {
-					Collections.swap(gnodeList, i, i + 1);
-					sorted = false;
-				}
-			}
-		}
+		return info.toString();
 	}
 	
 	/**
@@ -219,68 +342,139 @@ public class Graph {
 	 * @return critical path time value
 	 */
 	public int calculateCriticalTime() {
-		int[] criticalTimes = new int[gnodeList.size()];
-		for (int i = 0; i < gnodeList.size(); i++) {
-			GNode gnode = gnodeList.get(i);
-			gnode.calculateCriticalPaths(0, 1);
-			criticalTimes[i] = gnode.getCPTime();			
-		}
+		GraphSnapshot snapshot = createSnapshot();
+		int[] criticalTimes = new int[snapshot.getSize()];
+		int[] criticalGNodeNumbers = new int[snapshot.getSize()];
+		snapshot.calculateCriticalPaths(0, 1, criticalTimes, criticalGNodeNumbers);
 		return ComputerSystem.findArrayMax(criticalTimes);
 	}
 	
 	/**
-	 * Calculates critical paths by time and nodes number.
+	 * Sorts graph nodes in topological order, i.e. every node goes after all of its ancestry.
+	 * It uses counters of the not yet ordered ancestry, so the nodes located on the cycles
+	 * don't get into the order.
+	 * @return a list of the graph nodes in topological order
 	 */
-	private void calculateCriticalPaths() {		
+	public ArrayList<GNode> generateTopologicalOrder() {
+		HashMap<GNode, Integer> ancestryCounters = new HashMap<>();
+		ArrayList<GNode> order = new ArrayList<>(gnodeList.size());
+		
 		for (GNode gnode : gnodeList) {
-			gnode.calculateCriticalPaths(0, 1);			
+			ancestryCounters.put(gnode, gnode.getPrev().size());
+			if (gnode.isStartNode()) {
+				order.add(gnode);
+			}
 		}
 		
-		cpTime = gnodeList.get(0).getCPTime();
-		cpGNodeNumber = gnodeList.get(0).getCPGnodeNumber();
-		
-		for (int i = 1; i < gnodeList.size(); i++) {
-			int gnodeCPTime = gnodeList.get(i).getCPTime();			
-			int gnodeCPGnodesNumber = gnodeList.get(i).getCPGnodeNumber();
-			if (gnodeCPTime > cpTime) {
-				cpTime = gnodeCPTime;
-			}
-			if (gnodeCPGnodesNumber > cpGNodeNumber) {
-				cpGNodeNumber = gnodeCPGnodesNumber;
+		for (int i = 0; i < order.size(); i++) {
+			for (GNode successor : order.get(i).getNext()) {
+				int counter = ancestryCounters.get(successor) - 1;
+				ancestryCounters.put(successor, counter);
+				if (counter == 0) {
+					order.add(successor);
+				}
 			}
 		}
+		return order;
 	}
 	
 	/**
-	 * Calculates priorities of each graph node(queue type code 1)
+	 * Creates immutable compact copy of the graph. Graph nodes of the copy are numbered in 
+	 * topological order.
+	 * @return graph snapshot
 	 */
-	private void calculatePriorities() {
-		for (GNode gnode : gnodeList) {
-			gnode.calculatePriority(cpTime, cpGNodeNumber);			
+	public GraphSnapshot createSnapshot() {
+		ArrayList<GNode> order = generateTopologicalOrder();
+		int size = gnodeList.size();
+		
+		if (order.size() != size) {
+			throw new IllegalStateException("Task graph contains cycles");
+		}
+		
+		HashMap<GNode, Integer> ids = new HashMap<>();
+		int[] gnodeIndexes = new int[size];
+		int[] tExe = new int[size];
+		int[] listOrder = new int[size];
+		int[] successorsOffsets = new int[size + 1];
+		int[] predecessorsOffsets = new int[size + 1];
+		
+		for (int id = 0; id < size; id++) {
+			GNode gnode = order.get(id);
+			ids.put(gnode, id);
+			gnodeIndexes[id] = gnode.getIndex();
+			tExe[id] = gnode.getTExe();
+			successorsOffsets[id + 1] = successorsOffsets[id] + gnode.getNext().size();
+			predecessorsOffsets[id + 1] = predecessorsOffsets[id] + gnode.getPrev().size();
 		}
+		
+		for (int i = 0; i < size; i++) {
+			listOrder[i] = ids.get(gnodeList.get(i));
+		}
+		
+		int[] successors = new int[successorsOffsets[size]];
+		int[] successorsWeights = new int[successorsOffsets[size]];
+		int[] predecessors = new int[predecessorsOffsets[size]];
+		int[] predecessorsWeights = new int[predecessorsOffsets[size]];
+		
+		for (int id = 0; id < size; id++) {
+			GNode gnode = order.get(id);
+			int k = successorsOffsets[id];
+			
+			for (GNode nextNode : gnode.getNext()) {
+				successors[k] = ids.get(nextNode);
+				successorsWeights[k] = findGLink(gnode, nextNode).getTCom();
+				k++;
+			}
+			
+			k = predecessorsOffsets[id];
+			
+			for (GNode prevNode : gnode.getPrev()) {
+				predecessors[k] = ids.get(prevNode);
+				predecessorsWeights[k] = findGLink(prevNode, gnode).getTCom();
+				k++;
+			}
+		}
+		return new GraphSnapshot(gnodeIndexes, listOrder, tExe, successorsOffsets, successors, 
+				successorsWeights, predecessorsOffsets, predecessors, predecessorsWeights);
 	}
 	
 	/**
 	 * Creates the links with the specified link weights and places them to the graph.
+	 * Topological order of the graph is maintained while links are placed, so the link,
+	 * which would create a cycle, is rejected before the nodes are connected.
 	 * @param linkWeightList list of the link weights
  	 */
-	public void placeRandomLinks(ArrayList<Integer> linkWeightList) {		
+	public void placeRandomLinks(ArrayList<Integer> linkWeightList) {
+		placeRandomLinks(linkWeightList, new RandomSource());
+	}
+	
+	/**
+	 * Creates the links with the specified link weights and places them to the graph using
+	 * the specified random generator, so the same generator state gives the same links.
+	 * @param linkWeightList list of the link weights
+	 * @param random random generator
+	 */
+	public void placeRandomLinks(ArrayList<Integer> linkWeightList, RandomSource random) {		
+		HashMap<GNode, Integer> positions = new HashMap<>();
+		DynamicTopologicalOrder topologicalOrder = new DynamicTopologicalOrder(gnodeList.size());
+		
+		for (int i = 0; i < gnodeList.size(); i++) {
+			positions.put(gnodeList.get(i), i);
+		}
+		for (GLink glink : glinkList) {
+			topologicalOrder.addTransition(positions.get(glink.getStart()), positions.get(glink.getEnd()));
+		}
+		
 		for (Integer weight : linkWeightList) {
 			boolean placed = false;
 			
 			while (placed == false) {
-				int random = GraphGenerator.generateRandomValue(0, gnodeList.size());				
-				GNode sourceNode = getGNodeByIndex(random);
-				GNode destNode = getGNodeByIndex(GraphGenerator.generateRandomValue(0, gnodeList.size()));				
+				GNode sourceNode = getGNodeByIndex(random.nextIndex(gnodeList.size()));
+				GNode destNode = getGNodeByIndex(random.nextIndex(gnodeList.size()));				
 				if ((areConnected(sourceNode, destNode) == false) && (!sourceNode.equals(destNode))) {					
-					GLink link = new GLink(weight, sourceNode, destNode);
-					destNode.checkCycles(new ArrayList<GNode>());
-					if(destNode.getCyclesCheckCode() == 0) {
-						glinkList.add(link);						
+					if (topologicalOrder.addTransition(positions.get(sourceNode), positions.get(destNode))) {
+						addGLink(new GLink(weight, sourceNode, destNode));						
 						placed = true;
-					} else {
-						sourceNode.getNext().remove(destNode);
-						destNode.getPrev().remove(sourceNode);
 					}
 				}
 			}			
@@ -288,7 +482,10 @@ public class Graph {
 	}
 	
 	/**
-	 * Check graph for cycles. It uses passage of the graph in depth in two directions.
+	 * Check graph for cycles. It searches for strongly connected components of the graph
+	 * (Tarjan's algorithm), every component with more than one node contains cycles, so one 
+	 * cycle of each such component is stored to the cycles list. It takes linear time of the 
+	 * nodes and transitions number.
 	 * @return object array contains 2 elements:
 	 * - flag whether graph contains cycles or not
 	 * - cycles information if contains
@@ -296,105 +493,236 @@ public class Graph {
 	public Object[] checkCycles() {
 		cycles.clear();
 		Object[] cyclesInfo = new Object[2];
-		boolean containsBorderGNodes = false;		
+		int size = gnodeList.size();
+		HashMap<GNode, Integer> positions = new HashMap<>();
 		
-		for (GNode gnode : gnodeList) {
-			if ((gnode.getNext().isEmpty()) || (gnode.getPrev().isEmpty())) {
-				containsBorderGNodes = true;
-				if (gnode.isEndNode()) {
-					gnode.findCycles(new ArrayList<GNode>(), cycles, 0);
-				} else if (gnode.isStartNode()) {
-					gnode.findCycles(new ArrayList<GNode>(), cycles, 1);
-				}								
-			} 
+		for (int i = 0; i < size; i++) {
+			positions.put(gnodeList.get(i), i);
+		}
+		
+		int[] offsets = new int[size + 1];
+		for (int i = 0; i < size; i++) {
+			offsets[i + 1] = offsets[i] + gnodeList.get(i).getNext().size();
 		}
 		
-		if (containsBorderGNodes == true) {
-			if (cycles.isEmpty()) {
-				cyclesInfo[0] = false;
-				return cyclesInfo;
-			} else {
-				cyclesInfo[0] = true;
-				cyclesInfo[1] = generateCyclesInfo();
-				return cyclesInfo;
+		int[] successors = new int[offsets[size]];
+		for (int i = 0; i < size; i++) {
+			int k = offsets[i];
+			for (GNode nextNode : gnodeList.get(i).getNext()) {
+				successors[k++] = positions.get(nextNode);
 			}
+		}
+		
+		int[] components = findStronglyConnectedComponents(offsets, successors);
+		int[] componentSizes = new int[size];
+		
+		for (int i = 0; i < size; i++) {
+			componentSizes[components[i]]++;
+		}
+		
+		boolean[] visitedComponents = new boolean[size];
+		
+		for (int i = 0; i < size; i++) {
+			int component = components[i];
+			if ((componentSizes[component] > 1) && (visitedComponents[component] == false)) {
+				visitedComponents[component] = true;
+				cycles.add(findComponentCycle(i, components, offsets, successors));
+			}
+		}
+		
+		if (cycles.isEmpty()) {
+			cyclesInfo[0] = false;
 		} else {
-			gnodeList.get(0).findCycles(new ArrayList<GNode>(), cycles, 0);
 			cyclesInfo[0] = true;
 			cyclesInfo[1] = generateCyclesInfo();
-			return cyclesInfo;
-		}		
+		}
+		return cyclesInfo;
 	}
 	
 	/**
-	 * This method is used to generate queues with the specified queue type.
-	 * @param queueType a value of the queue type code (1, 12, 16)
-	 * @param printInfo is used to not print info during large random graph generations
+	 * Searches for strongly connected components of the graph using Tarjan's algorithm. 
+	 * Depth-first search is done with explicit stacks, so large graphs don't overflow 
+	 * the thread stack.
+	 * @param offsets offsets of the successors of each node
+	 * @param successors positions of the successors
+	 * @return component number of each node
 	 */
-	public void generateQueue(int queueType, boolean printInfo) {
-		queue = (ArrayList<GNode>)gnodeList.clone(); 
+	private static int[] findStronglyConnectedComponents(int[] offsets, int[] successors) {
+		int size = offsets.length - 1;
+		int[] order = new int[size];
+		int[] low = new int[size];
+		int[] components = new int[size];
+		int[] nextEdge = new int[size];
+		int[] callStack = new int[size];
+		int[] stack = new int[size];
+		boolean[] onStack = new boolean[size];
+		int counter = 0;
+		int componentsNumber = 0;
+		int stackSize = 0;
 		
-		if (queueType == 1) {
-			calculateCriticalPaths();
-			calculatePriorities();
-			sortGnodeListByPriority(queue);
-		} else if (queueType == 12) {			
-			Collections.sort(queue, new Graph.SortByOutgoingGLinks());					
-		} else if (queueType == 16) {
-			for (GNode gnode : gnodeList) {
-				gnode.calculateCriticalPaths(1, 16);				
-			}					
-			Collections.sort(queue, new Graph.SortByCriticalTime());				
-		}	
-		if (printInfo == true) {
-			console.setText(generateQueueString(queue, queueType));
-		}		
+		Arrays.fill(order, -1);
+		
+		for (int root = 0; root < size; root++) {
+			if (order[root] != -1) {
+				continue;
+			}
+			int callStackSize = 0;
+			order[root] = low[root] = counter++;
+			nextEdge[root] = offsets[root];
+			stack[stackSize++] = root;
+			onStack[root] = true;
+			callStack[callStackSize++] = root;
+			
+			while (callStackSize > 0) {
+				int v = callStack[callStackSize - 1];
+				
+				if (nextEdge[v] < offsets[v + 1]) {
+					int w = successors[nextEdge[v]++];
+					if (order[w] == -1) {
+						order[w] = low[w] = counter++;
+						nextEdge[w] = offsets[w];
+						stack[stackSize++] = w;
+						onStack[w] = true;
+						callStack[callStackSize++] = w;
+					} else if (onStack[w]) {
+						low[v] = Math.min(low[v], order[w]);
+					}
+				} else {
+					callStackSize--;
+					if (callStackSize > 0) {
+						int u = callStack[callStackSize - 1];
+						low[u] = Math.min(low[u], low[v]);
+					}
+					if (low[v] == order[v]) {
+						int w;
+						do {
+							w = stack[--stackSize];
+							onStack[w] = false;
+							components[w] = componentsNumber;
+						} while (w != v);
+						componentsNumber++;
+					}
+				}
+			}
+		}
+		return components;
 	}
 	
 	/**
-	 * This method generates information message about generated queue
-	 * @param queue generated queue
-	 * @param queueType code of queue type
-	 * @return information string
+	 * Searches for the cycle, which goes through the specified node. Breadth-first search 
+	 * visits only the nodes of the same strongly connected component, so the cycle always exists.
+	 * @param start position of the node
+	 * @param components component number of each node
+	 * @param offsets offsets of the successors of each node
+	 * @param successors positions of the successors
+	 * @return a list of the graph nodes of the cycle
 	 */
-	private String generateQueueString(ArrayList<GNode> queue, int queueType) {
-		String blockSeparator = "--------------------------------\n";
-		String queueSeparator = " | ";
+	private ArrayList<GNode> findComponentCycle(int start, int[] components, int[] offsets, int[] successors) {
+		int[] prev = new int[components.length];
+		int[] queue = new int[components.length];
+		int head = 0;
+		int tail = 0;
+		int last = -1;
 		
-		String queueString = "Queue (type = " + queueType + ")\n";
-		queueString += blockSeparator;
+		Arrays.fill(prev, -1);
+		queue[tail++] = start;
 		
-		if (queueType == 1) {
-			queueString += ("T = " + cpTime + "\n");
-			queueString += ("N = " + cpGNodeNumber + "\n");
-			queueString += blockSeparator;
-			for (GNode gnode : queue) {
-				queueString += ("T" + gnode.getIndex() + " = " + gnode.getCPTime() + "\n");
-				queueString += ("N" + gnode.getIndex() + " = " + gnode.getCPGnodeNumber() + "\n");
-				queueString += blockSeparator;
-			}
-			for (GNode gnode : queue) {
-				if (queue.indexOf(gnode) == gnodeList.size() - 1) {
-					queueSeparator = "";
+		while ((head < tail) && (last == -1)) {
+			int v = queue[head++];
+			for (int k = offsets[v]; k < offsets[v + 1]; k++) {
+				int w = successors[k];
+				if (w == start) {
+					last = v;
+					break;
 				}
-				queueString += ("G" + gnode.getIndex() + "(" + gnode.getPriority() + ")" + queueSeparator);
-			}
-		} else if (queueType == 12) {
-			for (GNode gnode : queue) {
-				if (queue.indexOf(gnode) == gnodeList.size() - 1) {
-					queueSeparator = "";
+				if ((components[w] == components[start]) && (prev[w] == -1)) {
+					prev[w] = v;
+					queue[tail++] = w;
 				}
-				queueString += ("G" + gnode.getIndex() + "(" + gnode.getNext().size() + ")" + queueSeparator);
 			}
-		} else if (queueType == 16) {
-			for (GNode gnode : queue) {
-				if (queue.indexOf(gnode) == gnodeList.size() - 1) {
-					queueSeparator = "";
+		}
+		
+		ArrayList<GNode> cycle = new ArrayList<>();
+		for (int v = last; v != start; v = prev[v]) {
+			cycle.add(gnodeList.get(v));
+		}
+		cycle.add(gnodeList.get(start));
+		Collections.reverse(cycle);
+		return cycle;
+	}
+	
+	/**
+	 * This method is used to generate queues with the specified queue type. Queue is built
+	 * on the graph snapshot: registered strategy of the queue type calculates sorting key of 
+	 * every node and then ids of the nodes are sorted by these keys.
+	 * @param queueType a value of the queue type code (1, 12, 16 or other registered code)
+	 * @param printInfo is used to not print info during large random graph generations
+	 */
+	public void generateQueue(int queueType, boolean printInfo) {
+		QueueStrategy strategy = QueueStrategies.get(queueType);
+		
+		if (strategy == null) {
+			throw new IllegalArgumentException("Unknown queue type: " + queueType);
+		}
+		
+		snapshot = createSnapshot();
+		int size = snapshot.getSize();
+		double[] keys = strategy.calculateKeys(snapshot);
+		
+		queueOrder = new int[size];
+		for (int i = 0; i < size; i++) {
+			queueOrder[i] = snapshot.getListOrder(i);
+		}
+		sortByKeys(queueOrder, keys);
+		
+		queue = new ArrayList<>(size);
+		for (int id : queueOrder) {
+			queue.add(getGNodeByIndex(snapshot.getGNodeIndex(id)));
+		}
+		
+		if (printInfo == true) {
+			console.clearConsole();
+			console.print(generateQueueString(strategy));
+		}		
+	}
+	
+	/**
+	 * Sorts graph node ids by ascending keys. It uses merge sort, so the ids with equal keys 
+	 * keep their order.
+	 * @param ids graph node ids to sort
+	 * @param keys sorting keys of the nodes
+	 */
+	private static void sortByKeys(int[] ids, double[] keys) {
+		int[] buffer = new int[ids.length];
+		
+		for (int width = 1; width < ids.length; width *= 2) {
+			for (int left = 0; left < ids.length - width; left += 2 * width) {
+				int middle = left + width;
+				int right = Math.min(left + 2 * width, ids.length);
+				int i = left;
+				int j = middle;
+				int k = left;
+				
+				while (k < right) {
+					if ((j < right) && ((i >= middle) || (keys[ids[j]] < keys[ids[i]]))) {
+						buffer[k++] = ids[j++];
+					} else {
+						buffer[k++] = ids[i++];
+					}
 				}
-				queueString += ("G" + gnode.getIndex() + "(" + gnode.getCPTime() + ")" + queueSeparator);
+				System.arraycopy(buffer, left, ids, left, right - left);
 			}
 		}
-		return queueString;		
+	}
+	
+	/**
+	 * This method generates information message about generated queue
+	 * @param strategy strategy of the queue type
+	 * @return information string
+	 */
+	private String generateQueueString(QueueStrategy strategy) {
+		return "Queue (type = " + strategy.getQueueType() + ")\n" + "--------------------------------\n" 
+				+ strategy.generateQueueInfo(snapshot, queueOrder);		
 	}
 	
 	/**
@@ -411,6 +739,7 @@ public class Graph {
 	 */
 	public void setGnodeList(ArrayList<GNode> gnodeList) {
 		this.gnodeList = gnodeList;
+		rebuildGNodeIndex();
 	}
 	
 	/**
@@ -427,31 +756,6 @@ public class Graph {
 	 */
 	public void setGlinkList(ArrayList<GLink> glinkList) {
 		this.glinkList = glinkList;
-	}
-	
-	/**
-	 * This class comparator sorts list of graph nodes by the number of outgoing
-	 * transitions.
-	 * @author Yaroslav
-	 *
-	 */
-	public static class SortByOutgoingGLinks implements Comparator<GNode> {
-		
-		public int compare(GNode node1, GNode node2) {
-			return node2.getNext().size() - node1.getNext().size();
-		}
-	}
-	
-	/**
-	 * This class comparator sorts list of graph nodes by critical path time.
-	 * @author Yaroslav
-	 *
-	 */
-	public static class SortByCriticalTime implements Comparator<GNode> {
-
-		@Override
-		public int compare(GNode node1, GNode node2) {
-			return node1.getCPTime() - node2.getCPTime();
-		}		
+		rebuildGLinkIndex();
 	}
 }
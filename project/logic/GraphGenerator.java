@@ -1,11 +1,12 @@
 package project.logic;
 
 import java.util.ArrayList;
-
-import javax.swing.JTextArea;
-
-import project.graphics.ConsolePrinter;
-import project.graphics.RandomGraphPanel;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * This class is created to generate random task graphs to load them to the 
@@ -15,6 +16,41 @@ import project.graphics.RandomGraphPanel;
  */
 public class GraphGenerator {
 	
+	/**
+	 * Minimum number of nodes of the modeled graphs.
+	 */
+	private static final int MIN_SWEEP_NODES_NUMBER = 16;
+	
+	/**
+	 * Maximum number of nodes of the modeled graphs.
+	 */
+	private static final int MAX_SWEEP_NODES_NUMBER = 48;
+	
+	/**
+	 * Step of the number of nodes of the modeled graphs.
+	 */
+	private static final int SWEEP_NODES_NUMBER_STEP = 16;
+	
+	/**
+	 * Minimum correlation of the modeled graphs(in percents).
+	 */
+	private static final int MIN_SWEEP_CORRELATION = 10;
+	
+	/**
+	 * Maximum correlation of the modeled graphs(in percents).
+	 */
+	private static final int MAX_SWEEP_CORRELATION = 90;
+	
+	/**
+	 * Step of the correlation of the modeled graphs(in percents).
+	 */
+	private static final int SWEEP_CORRELATION_STEP = 5;
+	
+	/**
+	 * Number of random graphs for each cell of the modeling matrices by default.
+	 */
+	private static final int DEFAULT_SAMPLES_NUMBER = 5;
+	
 	/**
 	 * Minimum graph node weight.
 	 */
@@ -51,19 +87,29 @@ public class GraphGenerator {
 	private int graphsNumber;
 	
 	/**
-	 * Maximum possible number of links.
+	 * Seed of the random values, the same seed gives the same graphs and results of modeling.
 	 */
-	private int maxLinksNumber;		
+	private long seed;
 	
 	/**
 	 * A pointer to the object responsible for printing data into the console.
 	 */
-	private ConsolePrinter consolePrinter;
+	private MessagePrinter consolePrinter;
+	
+	/**
+	 * A pointer to the view of the generated graph.
+	 */
+	private GraphView randomGraphPanel;
 	
 	/**
-	 * A pointer to the random graph panel.
+	 * Statistics of the modeling runs or null if they are not collected.
 	 */
-	private RandomGraphPanel randomGraphPanel;
+	private SchedulerStatistics statistics;
+	
+	/**
+	 * This flag specifies whether algorithm 5 chooses processor with the earliest finish time.
+	 */
+	private boolean earliestFinish;
 	
 	/**
 	 * Main constructor.
@@ -74,11 +120,29 @@ public class GraphGenerator {
 	 * @param minL minimum transition weight
 	 * @param maxL maximum transition weight
 	 * @param graphsNumber number of graphs for modeling
-	 * @param randomGraphPanel a pointer to the random graph panel
-	 * @param console a pointer to the console object
+	 * @param randomGraphPanel a pointer to the view of the generated graph
+	 * @param consolePrinter a pointer to the console printer
+	 */
+	public GraphGenerator(int minW, int maxW, int nodesNumber, double correlation, int minL, int maxL, 
+			int graphsNumber, GraphView randomGraphPanel, MessagePrinter consolePrinter) {		
+		this(minW, maxW, nodesNumber, correlation, minL, maxL, graphsNumber);
+		this.randomGraphPanel = randomGraphPanel;
+		this.consolePrinter = consolePrinter;
+	}
+	
+	/**
+	 * Creates generator without user interface. It is used for the modeling from the command 
+	 * line, so results are only returned and never printed.
+	 * @param minW minimum graph node weight
+	 * @param maxW maximum graph node weight
+	 * @param nodesNumber number of nodes in the graph
+	 * @param correlation specified correlation of the graph
+	 * @param minL minimum transition weight
+	 * @param maxL maximum transition weight
+	 * @param graphsNumber number of graphs for modeling
 	 */
 	public GraphGenerator(int minW, int maxW, int nodesNumber, double correlation, int minL, int maxL, 
-			int graphsNumber, RandomGraphPanel randomGraphPanel, JTextArea console) {		
+			int graphsNumber) {		
 		this.minW = minW;
 		this.maxW = maxW;
 		this.nodesNumber = nodesNumber;
@@ -86,8 +150,56 @@ public class GraphGenerator {
 		this.minL = minL;
 		this.maxL = maxL;
 		this.graphsNumber = graphsNumber;
-		this.randomGraphPanel = randomGraphPanel;
-		consolePrinter = new ConsolePrinter(console);
+		seed = System.nanoTime();
+	}
+	
+	/**
+	 * Accessor to the seed field.
+	 * @return seed of the random values
+	 */
+	public long getSeed() {
+		return seed;
+	}
+	
+	/**
+	 * Sets a value of the seed field.
+	 * @param seed seed of the random values
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+	
+	/**
+	 * Accessor to the earliest finish field.
+	 * @return true if algorithm 5 chooses processor with the earliest finish time
+	 */
+	public boolean isEarliestFinish() {
+		return earliestFinish;
+	}
+	
+	/**
+	 * Sets a value of the earliest finish field. It is used by the following modeling runs.
+	 * @param earliestFinish flag of the earliest finish time processor choice of algorithm 5
+	 */
+	public void setEarliestFinish(boolean earliestFinish) {
+		this.earliestFinish = earliestFinish;
+	}
+	
+	/**
+	 * Accessor to the statistics field.
+	 * @return statistics of the modeling runs or null if they are not collected
+	 */
+	public SchedulerStatistics getStatistics() {
+		return statistics;
+	}
+	
+	/**
+	 * Sets a value of the statistics field. Queue building and scheduling of all the
+	 * following modeling runs are added to the statistics.
+	 * @param statistics statistics of the modeling runs or null to stop collecting them
+	 */
+	public void setStatistics(SchedulerStatistics statistics) {
+		this.statistics = statistics;
 	}
 	
 	/**
@@ -125,17 +237,6 @@ public class GraphGenerator {
 		return checkResult;
 	}
 	
-	/**
-	 * Simple random value generator.
-	 * @param min minimum value
-	 * @param max maximum value
-	 * @return random value
-	 */
-	public static int generateRandomValue(int min, int max) {
-		int value = min + (int)(Math.random() * max);
-		return value;
-	}
-	
 	/**
 	 * Calculates nodes weight sum by adding execution time of each node.
 	 * @param gnodeList graph nodes list
@@ -152,12 +253,18 @@ public class GraphGenerator {
 	
 	/**
 	 * Randomly generates links weights based on the links weight sum and input parameters. 
+	 * Range of the weights is widened locally if the sum can't be reached, input parameters
+	 * are not changed, so graphs generated in parallel don't affect each other.
 	 * @param linkWeightSum links weights sum
+	 * @param nodesNumber number of nodes in the graph
+	 * @param random random generator
 	 * @return a list of links weights
 	 */
-	private ArrayList<Integer> generateLinkWeights(int linkWeightSum) {
+	public ArrayList<Integer> generateLinkWeights(int linkWeightSum, int nodesNumber, RandomSource random) {
 		ArrayList<Integer> linkWeights = new ArrayList<>();
-		maxLinksNumber = (nodesNumber - 1) * nodesNumber / 2;		
+		int maxLinksNumber = (nodesNumber - 1) * nodesNumber / 2;		
+		int minL = this.minL;
+		int maxL = this.maxL;
 		if (linkWeightSum > maxLinksNumber * maxL) {
 			int halfInterval = (maxL - minL) / 2 + 1;			
 			maxL = linkWeightSum / maxLinksNumber + halfInterval;
@@ -170,7 +277,7 @@ public class GraphGenerator {
 		}		
 		int sumBuf = 0;		
 		while (linkWeightSum != sumBuf) {
-			int linkWeight = GraphGenerator.generateRandomValue(minL, maxL);
+			int linkWeight = random.nextInt(minL, maxL);
 			linkWeights.add(linkWeight);
 			sumBuf += linkWeight;
 			if (sumBuf > linkWeightSum) {
@@ -190,27 +297,76 @@ public class GraphGenerator {
 		return linkWeights;
 	}
 	
+	/**
+	 * Generates graph nodes with the random execution times.
+	 * @param nodesNumber number of nodes
+	 * @param random random generator
+	 * @return a list of graph nodes
+	 */
+	public ArrayList<GNode> generateGNodes(int nodesNumber, RandomSource random) {
+		ArrayList<GNode> gnodeList = new ArrayList<>(nodesNumber);
+		
+		for (int i = 0; i < nodesNumber; i++) {
+			gnodeList.add(new GNode(random.nextInt(minW, maxW), i));
+		}
+		return gnodeList;
+	}
+	
+	/**
+	 * Generates random graph with the specified number of nodes and correlation. Weights are
+	 * taken from the ranges of this generator.
+	 * @param nodesNumber number of nodes
+	 * @param correlation correlation of the graph(0 ... 1)
+	 * @param random random generator
+	 * @return random graph
+	 */
+	public Graph generateRandomGraph(int nodesNumber, double correlation, RandomSource random) {
+		Graph randomGraph = new Graph();
+		ArrayList<GNode> bufNodeList = generateGNodes(nodesNumber, random);
+		randomGraph.setGnodeList(bufNodeList);
+		int nodeWeightSum = calculateNodesWeightSum(bufNodeList);					
+		placeRandomLinks(randomGraph, calculateLinkWeightSum(nodeWeightSum, correlation), random);
+		return randomGraph;
+	}
+	
+	/**
+	 * Calculates links weight sum, which gives the specified correlation of the graph.
+	 * @param nodeWeightSum nodes weight sum
+	 * @param correlation correlation of the graph(0 ... 1)
+	 * @return links weight sum
+	 */
+	private int calculateLinkWeightSum(int nodeWeightSum, double correlation) {
+		return (int)(Math.round(nodeWeightSum * (1 / correlation - 1)));
+	}
+	
+	/**
+	 * Generates weights of the links and places the links between the nodes of the graph.
+	 * @param graph graph with the nodes
+	 * @param linkWeightSum links weight sum
+	 * @param random random generator
+	 */
+	private void placeRandomLinks(Graph graph, int linkWeightSum, RandomSource random) {
+		ArrayList<Integer> linkWeights = generateLinkWeights(linkWeightSum, graph.getGnodeList().size(), random);
+		graph.placeRandomLinks(linkWeights, random);
+	}
+	
 	/**
 	 * Generates single graph using input parameters.
 	 */
 	public void generate() {
 		consolePrinter.clearConsole();
 		if (checkParameters() == true) {
+			RandomSource random = new RandomSource(seed);
 			Graph randomGraph = new Graph();
-			ArrayList<GNode> bufNodeList = new ArrayList<>();
 			consolePrinter.printBlock(generateParamMessage());			
-			for (int i = 0; i < nodesNumber; i++) {
-				int gnodeExeTime = generateRandomValue(minW, maxW);
-				GNode gnode = new GNode(gnodeExeTime, i);
-				bufNodeList.add(gnode);
-			}
+			consolePrinter.printBlock("Seed = " + seed);
+			ArrayList<GNode> bufNodeList = generateGNodes(nodesNumber, random);
 			randomGraph.setGnodeList(bufNodeList);
 			int nodeWeightSum = calculateNodesWeightSum(bufNodeList);
 			consolePrinter.printBlock("Node weight sum = " + nodeWeightSum);			
-			int linkWeightSum = (int)(Math.round(nodeWeightSum * (1 / correlation - 1)));
+			int linkWeightSum = calculateLinkWeightSum(nodeWeightSum, correlation);
 			consolePrinter.printBlock("Link weight sum = " + linkWeightSum);			
-			ArrayList<Integer> linkWeights = generateLinkWeights(linkWeightSum);
-			randomGraph.placeRandomLinks(linkWeights);						
+			placeRandomLinks(randomGraph, linkWeightSum, random);						
 			randomGraphPanel.setGNodeList(bufNodeList);
 			randomGraphPanel.setLinkList(randomGraph.getGlinkList());
 			double calculatedCorrelation = (double)nodeWeightSum / (nodeWeightSum + linkWeightSum);
@@ -218,24 +374,6 @@ public class GraphGenerator {
 		}		
 	}
 	
-	/**
-	 * Prints matrix to the console.
-	 * @param matrix with the calculated modeling parameters
-	 * @param name label of the matrix
-	 */
-	public void printMatrix(double[][] matrix, String name) {		
-		consolePrinter.println(name);		
-		String matrixStr = "";
-		
-		for (int i = 0; i < matrix.length; i++) {
-			matrixStr = "";
-			for (int j = 0; j < matrix[0].length; j++) {				
-				matrixStr += (String.format("%6.3f", matrix[i][j]) + "  ");				
-			}
-			consolePrinter.println(matrixStr);			
-		}
-	}
-	
 	/**
 	 * Calculates average value of the array.
 	 * @param array input array
@@ -269,76 +407,352 @@ public class GraphGenerator {
 		algorythms.add(alg5);
 		Algorythm alg6 = new Algorythm(5, 16);
 		algorythms.add(alg6);
+		Algorythm alg7 = new Algorythm(6, 1);
+		algorythms.add(alg7);
 		return algorythms;
 	}
 	
 	/**
-	 * This method is used to discover the efficiency of the different computer system
-	 * topologies scaling on the large amount of random task graphs. 
-	 * Output parameters:
-	 * 1. Kp  - acceleration factor.
-	 * 2. Ke  - effectiveness ratio.
-	 * 3. Kea - effectiveness ratio of algorithm.
-	 * @param comSys computer system to model 
+	 * Models the computer system with the seed of this generator on all the processor cores.
+	 * Nothing is printed, so it can be called from the background thread.
+	 * @param comSys computer system to model
+	 * @param listener observer of the modeling, can be null
+	 * @return Kp, Ke and Kea matrices
+	 * @throws CancellationException if modeling is cancelled by the listener
+	 */
+	public SweepResult generateMultipleGraphs(ComputerSystem comSys, SweepListener listener) {
+		return generateMultipleGraphs(comSys, seed, DEFAULT_SAMPLES_NUMBER, 
+				Runtime.getRuntime().availableProcessors(), listener);
+	}
+	
+	/**
+	 * Prints the completed row of all the matrices to the console.
+	 * @param result result of the modeling
+	 * @param row row number
+	 */
+	public void printRow(SweepResult result, int row) {
+		consolePrinter.println("Correlation = " + result.getCorrelations()[row]);
+		consolePrinter.println(formatRow("Kp  ", result.getKp()[row]));
+		consolePrinter.println(formatRow("Ke  ", result.getKe()[row]));
+		consolePrinter.println(formatRow("Kea ", result.getKea()[row]));
+	}
+	
+	/**
+	 * Converts the row of the matrix to string.
+	 * @param name name of the matrix
+	 * @param values values of the row
+	 * @return row string
+	 */
+	private static String formatRow(String name, double[] values) {
+		StringBuilder rowStr = new StringBuilder(name);
+		
+		for (double value : values) {
+			rowStr.append(String.format("%6.3f", value)).append("  ");
+		}
+		return rowStr.toString();
+	}
+	
+	/**
+	 * Models the computer system on the random task graphs of the different sizes and 
+	 * correlations with each algorithm. Every cell of the result matrices(size, correlation
+	 * and algorithm) is an independent task with its own source of the random values, which
+	 * is split from the source with the specified seed in the order of the cells, so the result
+	 * is the same for the same seed regardless of the number of threads.
+	 * Scheduling doesn't change the computer system, so it is shared by all the tasks. 
+	 * Schedules are reused through the pool, so each thread allocates them only once.
+	 * @param comSys computer system to model
+	 * @param seed seed of the modeling
+	 * @param samplesNumber number of random graphs for each cell
+	 * @param parallelism number of threads
+	 * @return Kp, Ke and Kea matrices
+	 */
+	public SweepResult generateMultipleGraphs(ComputerSystem comSys, long seed, int samplesNumber, int parallelism) {
+		return generateMultipleGraphs(comSys, seed, samplesNumber, parallelism, null);
+	}
+	
+	/**
+	 * Models the computer system on the random task graphs and reports the progress to the 
+	 * listener. Cells are split into ranges of the row by row order: the thread, which starts 
+	 * the modeling, goes along this order from the first row, while the other threads steal the 
+	 * remaining ranges, so the last rows may be started at once and rows may be completed in any 
+	 * order. The modeling is stopped as soon as the listener cancels it.
+	 * @param comSys computer system to model
+	 * @param seed seed of the modeling
+	 * @param samplesNumber number of random graphs for each cell
+	 * @param parallelism number of threads
+	 * @param listener observer of the modeling, can be null
+	 * @return Kp, Ke and Kea matrices
+	 * @throws CancellationException if modeling is cancelled by the listener
 	 */
-	public void generateMultipleGraphs(ComputerSystem comSys) {		
+	public SweepResult generateMultipleGraphs(ComputerSystem comSys, long seed, int samplesNumber, int parallelism, 
+			SweepListener listener) {
 		ArrayList<Algorythm> algorythms = initiateAlgorithmsArray();
+		int sizesNumber = (MAX_SWEEP_NODES_NUMBER - MIN_SWEEP_NODES_NUMBER) / SWEEP_NODES_NUMBER_STEP + 1;
+		int correlationsNumber = (MAX_SWEEP_CORRELATION - MIN_SWEEP_CORRELATION) / SWEEP_CORRELATION_STEP + 1;
+		int cellsNumber = sizesNumber * correlationsNumber * algorythms.size();
+		double[] correlations = new double[correlationsNumber];
+		String[] columnNames = new String[sizesNumber * algorythms.size()];
+		for (int k = 0; k < correlationsNumber; k++) {
+			correlations[k] = (MIN_SWEEP_CORRELATION + k * SWEEP_CORRELATION_STEP) / 100.0;
+		}
+		for (int n = 0; n < sizesNumber; n++) {
+			for (int a = 0; a < algorythms.size(); a++) {
+				Algorythm alg = algorythms.get(a);
+				columnNames[a + n * algorythms.size()] = "n" + (MIN_SWEEP_NODES_NUMBER + n * SWEEP_NODES_NUMBER_STEP) 
+						+ "_a" + alg.getAssignType() + "_q" + alg.getQueueType();
+			}
+		}
+		SweepResult result = new SweepResult(correlations, columnNames);
+		
+		RandomSource[] cellSources = new RandomSource[cellsNumber];
+		RandomSource random = new RandomSource(seed);
+		for (int cell = 0; cell < cellsNumber; cell++) {
+			cellSources[cell] = random.split();
+		}
+		
+		if (statistics == null) {
+			comSys.getRoutingTable();
+		} else {
+			SchedulerStatistics routingStatistics = new SchedulerStatistics();
+			comSys.getRoutingTable(routingStatistics);
+			statistics.addAll(routingStatistics);
+		}
+		Sweep sweep = new Sweep(comSys, algorythms, cellSources, samplesNumber, new ScheduleResultPool(parallelism), 
+				result, listener);
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			pool.invoke(new SweepTask(0, cellsNumber, sweep));
+		} finally {
+			pool.shutdown();
+			awaitTermination(pool);
+		}
+		return result;
+	}
+	
+	/**
+	 * Waits until all the tasks of the pool are finished. When the modeling is cancelled, 
+	 * the root task throws the exception as soon as one of the cells is stopped, while the 
+	 * forked cells are still running until they check the listener.
+	 * @param pool shut down pool of the modeling
+	 */
+	private static void awaitTermination(ForkJoinPool pool) {
+		boolean interrupted = false;
+		while (!pool.isTerminated()) {
+			try {
+				pool.awaitTermination(1, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	/**
+	 * Calculates the single cell of the modeling matrices. 
+	 * @param sweep state of the modeling
+	 * @param cell cell number
+	 * @throws CancellationException if modeling is cancelled by the listener
+	 */
+	private void calculateCell(Sweep sweep, int cell) {
+		ArrayList<Algorythm> algorythms = sweep.algorythms;
+		RandomSource random = sweep.cellSources[cell];
+		int samplesNumber = sweep.samplesNumber;
+		int correlationsNumber = sweep.result.getCorrelations().length;
+		int a = cell % algorythms.size();
+		int k = cell / algorythms.size() % correlationsNumber;
+		int n = cell / algorythms.size() / correlationsNumber;
 		
-		double[][] matKp = new double[17][algorythms.size() * 3];
-		double[][] matKe = new double[17][algorythms.size() * 3];
-		double[][] matKea = new double[17][algorythms.size() * 3];
+		int nodesNumber = MIN_SWEEP_NODES_NUMBER + n * SWEEP_NODES_NUMBER_STEP;
+		double correlation = (MIN_SWEEP_CORRELATION + k * SWEEP_CORRELATION_STEP) / 100.0;
+		Algorythm alg = algorythms.get(a);
+		SchedulingContext context = new SchedulingContext(alg.getAssignType(), 1, false, earliestFinish, statistics);
+		SchedulerStatistics queueStatistics = (statistics == null) ? null : new SchedulerStatistics();
 		
-		for (int n = 16; n <= 48; n += 16) {			
-			nodesNumber = n;			
+		double[] bufKp = new double[samplesNumber];
+		double[] bufKe = new double[samplesNumber];
+		double[] bufKea = new double[samplesNumber];
+		
+		for (int i = 0; i < samplesNumber; i++) {
+			if ((sweep.listener != null) && sweep.listener.isCancelled()) {
+				throw new CancellationException("Modeling is cancelled");
+			}
+			Graph randomGraph = generateRandomGraph(nodesNumber, correlation, random);
+			long time = SchedulerStatistics.start(queueStatistics);
+			randomGraph.generateQueue(alg.getQueueType(), false);					
+			if (queueStatistics != null) {
+				queueStatistics.stop(SchedulerStatistics.QUEUE_BUILDING, time);
+			}
+			ScheduleResult schedule = sweep.comSys.loadTaskGraph(randomGraph, context, random, sweep.schedulePool);		
 			
-			for (int k = 10; k <= 90; k+=5) {
-				
-				correlation = k / 100.0;								
-				
-				for (int a = 0; a < algorythms.size(); a++) {
-					
-					Algorythm alg = algorythms.get(a);
-					
-					int queueType = alg.getQueueType();
-					int assignType = alg.getAssignType();
-					
-					double[] bufKp = new double[5];
-					double[] bufKe = new double[5];
-					double[] bufKea = new double[5];					
-					
-					for (int i = 0; i < 5; i++) {	
-						
-						Graph randomGraph = new Graph();
-						ArrayList<GNode> bufNodeList = new ArrayList<>();						
-						for (int j = 0; j < nodesNumber; j++) {
-							int gnodeExeTime = generateRandomValue(minW, maxW);
-							GNode gnode = new GNode(gnodeExeTime, j);
-							bufNodeList.add(gnode);
-						}
-						randomGraph.setGnodeList(bufNodeList);
-						int nodeWeightSum = calculateNodesWeightSum(bufNodeList);					
-						int linkWeightSum = (int)(Math.round(nodeWeightSum * (1 / correlation - 1)));			
-						ArrayList<Integer> linkWeights = generateLinkWeights(linkWeightSum);
-						randomGraph.placeRandomLinks(linkWeights);						
-						
-						randomGraph.generateQueue(queueType, false);					
-						comSys.loadTaskGraph(randomGraph, assignType, 1, false);		
-						
-						int Tn = comSys.findTotalScheduleTime();
-						bufKp[i] = (double)randomGraph.calculateOneProcessorExeTime() / Tn;
-						bufKe[i] = bufKp[i] / comSys.getNodeList().size();
-						bufKea[i] = (double)randomGraph.calculateCriticalTime() / Tn;																			
-									
-					}	
-					
-					matKp[k / 5 - 2][a + (n / 16 - 1) * algorythms.size()] = getAverage(bufKp);
-					matKe[k / 5 - 2][a + (n / 16 - 1) * algorythms.size()] = getAverage(bufKe);
-					matKea[k / 5 - 2][a + (n / 16 - 1) * algorythms.size()] = getAverage(bufKea);
-				}				
+			int Tn = schedule.findTotalScheduleTime();
+			bufKp[i] = (double)randomGraph.calculateOneProcessorExeTime() / Tn;
+			bufKe[i] = bufKp[i] / schedule.getProcessorsNumber();
+			bufKea[i] = (double)randomGraph.calculateCriticalTime() / Tn;
+			sweep.schedulePool.release(schedule);
+		}
+		if (queueStatistics != null) {
+			statistics.addAll(queueStatistics);
+		}
+		sweep.result.setCell(k, a + n * algorythms.size(), getAverage(bufKp), getAverage(bufKe), getAverage(bufKea));
+		sweep.cellCompleted(k);
+	}
+	
+	/**
+	 * State of the single modeling, which is shared by all its tasks.
+	 * @author Yaroslav
+	 *
+	 */
+	private static class Sweep {
+		
+		/**
+		 * Computer system to model.
+		 */
+		private final ComputerSystem comSys;
+		
+		/**
+		 * A list of the algorithms.
+		 */
+		private final ArrayList<Algorythm> algorythms;
+		
+		/**
+		 * Sources of the random values of the cells.
+		 */
+		private final RandomSource[] cellSources;
+		
+		/**
+		 * Number of random graphs for each cell.
+		 */
+		private final int samplesNumber;
+		
+		/**
+		 * Pool of the schedules.
+		 */
+		private final ScheduleResultPool schedulePool;
+		
+		/**
+		 * Matrices to fill.
+		 */
+		private final SweepResult result;
+		
+		/**
+		 * Observer of the modeling, can be null.
+		 */
+		private final SweepListener listener;
+		
+		/**
+		 * Number of the calculated cells.
+		 */
+		private final AtomicInteger completedCells;
+		
+		/**
+		 * Number of the cells left to calculate in each row.
+		 */
+		private final AtomicIntegerArray rowCellsLeft;
+		
+		/**
+		 * Main constructor.
+		 * @param comSys computer system to model
+		 * @param algorythms a list of the algorithms
+		 * @param cellSources sources of the random values of the cells
+		 * @param samplesNumber number of random graphs for each cell
+		 * @param schedulePool pool of the schedules
+		 * @param result matrices to fill
+		 * @param listener observer of the modeling, can be null
+		 */
+		public Sweep(ComputerSystem comSys, ArrayList<Algorythm> algorythms, RandomSource[] cellSources, 
+				int samplesNumber, ScheduleResultPool schedulePool, SweepResult result, SweepListener listener) {
+			this.comSys = comSys;
+			this.algorythms = algorythms;
+			this.cellSources = cellSources;
+			this.samplesNumber = samplesNumber;
+			this.schedulePool = schedulePool;
+			this.result = result;
+			this.listener = listener;
+			completedCells = new AtomicInteger();
+			rowCellsLeft = new AtomicIntegerArray(result.getCorrelations().length);
+			for (int k = 0; k < rowCellsLeft.length(); k++) {
+				rowCellsLeft.set(k, result.getColumnNames().length);
+			}
+		}
+		
+		/**
+		 * Returns the cell number of the position in the calculation order. Positions go row by
+		 * row, although cell numbers(and sources of the random values) go by the graph sizes. Only
+		 * the ranges of the positions are split in this order, rows are not calculated one by one.
+		 * @param position position in the calculation order
+		 * @return cell number
+		 */
+		public int getCell(int position) {
+			int columnsNumber = result.getColumnNames().length;
+			int k = position / columnsNumber;
+			int n = position % columnsNumber / algorythms.size();
+			int a = position % algorythms.size();
+			return (n * result.getCorrelations().length + k) * algorythms.size() + a;
+		}
+		
+		/**
+		 * Counts the calculated cell and notifies the listener.
+		 * @param row row of the cell
+		 */
+		public void cellCompleted(int row) {
+			int completed = completedCells.incrementAndGet();
+			boolean rowCompleted = rowCellsLeft.decrementAndGet(row) == 0;
+			
+			if (listener != null) {
+				listener.cellCompleted(completed, cellSources.length);
+				if (rowCompleted) {
+					listener.rowCompleted(row, result);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Task of the modeling of the range of the matrices cells. Ranges are split until 
+	 * every task contains a single cell, so the cells are calculated in parallel.
+	 * @author Yaroslav
+	 *
+	 */
+	@SuppressWarnings("serial")
+	private class SweepTask extends RecursiveAction {
+		
+		/**
+		 * First position in the calculation order.
+		 */
+		private final int from;
+		
+		/**
+		 * Position after the last one.
+		 */
+		private final int to;
+		
+		/**
+		 * State of the modeling.
+		 */
+		private final Sweep sweep;
+		
+		/**
+		 * Main constructor.
+		 * @param from first position in the calculation order
+		 * @param to position after the last one
+		 * @param sweep state of the modeling
+		 */
+		public SweepTask(int from, int to, Sweep sweep) {
+			this.from = from;
+			this.to = to;
+			this.sweep = sweep;
+		}
+		
+		@Override
+		protected void compute() {
+			if (to - from > 1) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new SweepTask(from, middle, sweep), new SweepTask(middle, to, sweep));
+			} else {
+				calculateCell(sweep, sweep.getCell(from));
 			}
 		}
-		printMatrix(matKp, "Kp");
-		printMatrix(matKe, "Ke");
-		printMatrix(matKea, "Kea");
-	}	
+	}
 }
@@ -0,0 +1,269 @@
+package project.logic;
+
+/**
+ * Immutable compact copy of the task graph. Graph nodes are numbered in topological order
+ * (every transition goes from the smaller id to the bigger one) and transitions are stored
+ * in compressed sparse rows, i.e. successors of the node with id i are located in the
+ * successors array between offsets i and i + 1. The same is done for ancestry.
+ * It is used by the queue generation and scheduling algorithms, which don't need
+ * graphical information of the graph nodes.
+ * @author Yaroslav
+ *
+ */
+public final class GraphSnapshot {
+
+	/**
+	 * Number of the graph nodes.
+	 */
+	private final int size;
+
+	/**
+	 * Unique indexes of the graph nodes, which are used to find graph node objects.
+	 */
+	private final int[] gnodeIndexes;
+
+	/**
+	 * Ids of the graph nodes in the order of the graph nodes list.
+	 */
+	private final int[] listOrder;
+
+	/**
+	 * Execution times of the graph nodes.
+	 */
+	private final int[] tExe;
+
+	/**
+	 * Offsets of the successors of each node(size + 1 elements).
+	 */
+	private final int[] successorsOffsets;
+
+	/**
+	 * Successors ids.
+	 */
+	private final int[] successors;
+
+	/**
+	 * Communication times of the transitions to the successors.
+	 */
+	private final int[] successorsWeights;
+
+	/**
+	 * Offsets of the ancestry of each node(size + 1 elements).
+	 */
+	private final int[] predecessorsOffsets;
+
+	/**
+	 * Ancestry ids.
+	 */
+	private final int[] predecessors;
+
+	/**
+	 * Communication times of the transitions from the ancestry.
+	 */
+	private final int[] predecessorsWeights;
+
+	/**
+	 * Main constructor. Arrays are not copied, so they shouldn't be changed after the
+	 * snapshot is created.
+	 * @param gnodeIndexes unique indexes of the graph nodes
+	 * @param listOrder ids of the graph nodes in the order of the graph nodes list
+	 * @param tExe execution times
+	 * @param successorsOffsets offsets of the successors
+	 * @param successors successors ids
+	 * @param successorsWeights communication times of the transitions to the successors
+	 * @param predecessorsOffsets offsets of the ancestry
+	 * @param predecessors ancestry ids
+	 * @param predecessorsWeights communication times of the transitions from the ancestry
+	 */
+	GraphSnapshot(int[] gnodeIndexes, int[] listOrder, int[] tExe, int[] successorsOffsets,
+			int[] successors, int[] successorsWeights, int[] predecessorsOffsets,
+			int[] predecessors, int[] predecessorsWeights) {
+		this.size = tExe.length;
+		this.gnodeIndexes = gnodeIndexes;
+		this.listOrder = listOrder;
+		this.tExe = tExe;
+		this.successorsOffsets = successorsOffsets;
+		this.successors = successors;
+		this.successorsWeights = successorsWeights;
+		this.predecessorsOffsets = predecessorsOffsets;
+		this.predecessors = predecessors;
+		this.predecessorsWeights = predecessorsWeights;
+	}
+
+	/**
+	 * Accessor to the size field.
+	 * @return number of the graph nodes
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns unique index of the graph node with specified id.
+	 * @param id graph node id
+	 * @return graph node index
+	 */
+	public int getGNodeIndex(int id) {
+		return gnodeIndexes[id];
+	}
+
+	/**
+	 * Returns id of the graph node located on the specified position of the graph nodes list.
+	 * @param position position in the graph nodes list
+	 * @return graph node id
+	 */
+	public int getListOrder(int position) {
+		return listOrder[position];
+	}
+
+	/**
+	 * Returns execution time of the graph node.
+	 * @param id graph node id
+	 * @return execution time
+	 */
+	public int getTExe(int id) {
+		return tExe[id];
+	}
+
+	/**
+	 * Returns the offset of the first successor of the graph node.
+	 * @param id graph node id
+	 * @return offset in the successors array
+	 */
+	public int getSuccessorsStart(int id) {
+		return successorsOffsets[id];
+	}
+
+	/**
+	 * Returns the offset after the last successor of the graph node.
+	 * @param id graph node id
+	 * @return offset in the successors array
+	 */
+	public int getSuccessorsEnd(int id) {
+		return successorsOffsets[id + 1];
+	}
+
+	/**
+	 * Returns number of the successors of the graph node.
+	 * @param id graph node id
+	 * @return number of the successors
+	 */
+	public int getSuccessorsNumber(int id) {
+		return successorsOffsets[id + 1] - successorsOffsets[id];
+	}
+
+	/**
+	 * Returns successor id located on the specified offset.
+	 * @param offset offset in the successors array
+	 * @return successor id
+	 */
+	public int getSuccessor(int offset) {
+		return successors[offset];
+	}
+
+	/**
+	 * Returns communication time of the transition located on the specified offset.
+	 * @param offset offset in the successors array
+	 * @return communication time
+	 */
+	public int getSuccessorWeight(int offset) {
+		return successorsWeights[offset];
+	}
+
+	/**
+	 * Returns the offset of the first ancestor of the graph node.
+	 * @param id graph node id
+	 * @return offset in the ancestry array
+	 */
+	public int getPredecessorsStart(int id) {
+		return predecessorsOffsets[id];
+	}
+
+	/**
+	 * Returns the offset after the last ancestor of the graph node.
+	 * @param id graph node id
+	 * @return offset in the ancestry array
+	 */
+	public int getPredecessorsEnd(int id) {
+		return predecessorsOffsets[id + 1];
+	}
+
+	/**
+	 * Returns number of the ancestry of the graph node.
+	 * @param id graph node id
+	 * @return number of the ancestry
+	 */
+	public int getPredecessorsNumber(int id) {
+		return predecessorsOffsets[id + 1] - predecessorsOffsets[id];
+	}
+
+	/**
+	 * Returns ancestor id located on the specified offset.
+	 * @param offset offset in the ancestry array
+	 * @return ancestor id
+	 */
+	public int getPredecessor(int offset) {
+		return predecessors[offset];
+	}
+
+	/**
+	 * Returns communication time of the transition located on the specified offset.
+	 * @param offset offset in the ancestry array
+	 * @return communication time
+	 */
+	public int getPredecessorWeight(int offset) {
+		return predecessorsWeights[offset];
+	}
+
+	/**
+	 * Calculates total execution time of the graph nodes.
+	 * @return execution time on 1 processor
+	 */
+	public int calculateOneProcessorExeTime() {
+		int exeTime = 0;
+		for (int i = 0; i < size; i++) {
+			exeTime += tExe[i];
+		}
+		return exeTime;
+	}
+
+	/**
+	 * Calculates critical paths for time and nodes number of each graph node. Nodes are
+	 * visited in topological order(reverse one for the forward paths), so the paths of the
+	 * node are built from the already calculated paths of its successors(ancestry) and
+	 * we don't have to enumerate all the routes of the graph.
+	 * @param direction 0 for forward paths, 1 for backward
+	 * @param queueType queue type code value, with code 16 the node itself isn't included in its path
+	 * @param cpTimes array to store critical path times
+	 * @param cpGNodeNumbers array to store numbers of the nodes on the critical paths
+	 */
+	public void calculateCriticalPaths(int direction, int queueType, int[] cpTimes, int[] cpGNodeNumbers) {
+		int[] pathTimes = new int[size];
+		int[] pathGNodeNumbers = new int[size];
+
+		for (int i = 0; i < size; i++) {
+			int id = (direction == 0) ? size - 1 - i : i;
+			int[] offsets = (direction == 0) ? successorsOffsets : predecessorsOffsets;
+			int[] neighbours = (direction == 0) ? successors : predecessors;
+			int maxTime = 0;
+			int maxGNodeNumber = 0;
+
+			for (int k = offsets[id]; k < offsets[id + 1]; k++) {
+				int neighbour = neighbours[k];
+				if (pathTimes[neighbour] > maxTime) maxTime = pathTimes[neighbour];
+				if (pathGNodeNumbers[neighbour] > maxGNodeNumber) maxGNodeNumber = pathGNodeNumbers[neighbour];
+			}
+
+			pathTimes[id] = maxTime + tExe[id];
+			pathGNodeNumbers[id] = maxGNodeNumber + 1;
+
+			if (queueType == 16) {
+				cpTimes[id] = maxTime;
+				cpGNodeNumbers[id] = maxGNodeNumber;
+			} else {
+				cpTimes[id] = pathTimes[id];
+				cpGNodeNumbers[id] = pathGNodeNumbers[id];
+			}
+		}
+	}
+}
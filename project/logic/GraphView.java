@@ -0,0 +1,23 @@
+package project.logic;
+
+import java.util.ArrayList;
+
+/**
+ * Display of the randomly generated task graph.
+ * @author Yaroslav
+ *
+ */
+public interface GraphView {
+
+	/**
+	 * Sets the graph nodes to display.
+	 * @param gList list of the graph nodes
+	 */
+	void setGNodeList(ArrayList<GNode> gList);
+
+	/**
+	 * Sets the transitions to display.
+	 * @param lList list of the transitions
+	 */
+	void setLinkList(ArrayList<GLink> lList);
+}
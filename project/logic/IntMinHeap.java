@@ -0,0 +1,100 @@
+package project.logic;
+
+import java.util.Arrays;
+
+/**
+ * Binary heap of primitive int values, which returns the smallest value first.
+ * @author Yaroslav
+ *
+ */
+class IntMinHeap {
+
+	/**
+	 * Heap elements.
+	 */
+	private int[] heap;
+
+	/**
+	 * Number of the elements in the heap.
+	 */
+	private int size;
+
+	/**
+	 * Main constructor.
+	 * @param capacity maximum number of the elements
+	 */
+	public IntMinHeap(int capacity) {
+		heap = new int[Math.max(capacity, 1)];
+	}
+
+	/**
+	 * Checks whether heap contains any elements or not.
+	 * @return true if it hasn't
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Accessor to the size field.
+	 * @return number of the elements
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Adds value to the heap.
+	 * @param value value to add
+	 */
+	public void push(int value) {
+		if (size == heap.length) {
+			heap = Arrays.copyOf(heap, size * 2);
+		}
+		int i = size++;
+
+		while (i > 0) {
+			int parent = (i - 1) / 2;
+			if (heap[parent] <= value) {
+				break;
+			}
+			heap[i] = heap[parent];
+			i = parent;
+		}
+		heap[i] = value;
+	}
+
+	/**
+	 * Removes the smallest value from the heap.
+	 * @return the smallest value
+	 */
+	public int pop() {
+		int min = heap[0];
+		int value = heap[--size];
+		int i = 0;
+
+		while (true) {
+			int child = 2 * i + 1;
+			if (child >= size) {
+				break;
+			}
+			if ((child + 1 < size) && (heap[child + 1] < heap[child])) {
+				child++;
+			}
+			if (value <= heap[child]) {
+				break;
+			}
+			heap[i] = heap[child];
+			i = child;
+		}
+		heap[i] = value;
+		return min;
+	}
+
+	/**
+	 * Removes all the elements.
+	 */
+	public void clear() {
+		size = 0;
+	}
+}
@@ -0,0 +1,181 @@
+package project.logic;
+
+/**
+ * Simple hash map with primitive long keys. It uses open addressing with linear probing,
+ * so lookups don't create any wrapper objects. It is used to index graph nodes by
+ * their unique index and transitions by the pair of indexes of their nodes.
+ * @author Yaroslav
+ *
+ * @param <V> type of the stored values
+ */
+class LongKeyMap<V> {
+
+	/**
+	 * Initial capacity of the tables. Always should be a power of two.
+	 */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * Keys table.
+	 */
+	private long[] keys;
+
+	/**
+	 * Values table.
+	 */
+	private Object[] values;
+
+	/**
+	 * Flags of the used slots.
+	 */
+	private boolean[] used;
+
+	/**
+	 * Number of stored entries.
+	 */
+	private int size;
+
+	/**
+	 * Main constructor.
+	 */
+	public LongKeyMap() {
+		allocate(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates empty tables with specified capacity.
+	 * @param capacity capacity of the tables(power of two)
+	 */
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new Object[capacity];
+		used = new boolean[capacity];
+		size = 0;
+	}
+
+	/**
+	 * Calculates the slot of the specified key.
+	 * @param key key to hash
+	 * @return slot index
+	 */
+	private int slot(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int)(h ^ (h >>> 32)) & (keys.length - 1);
+	}
+
+	/**
+	 * Searches for the slot, which contains specified key.
+	 * @param key key to search
+	 * @return slot index or -1 if there is no such key
+	 */
+	private int find(long key) {
+		int i = slot(key);
+		while (used[i]) {
+			if (keys[i] == key) {
+				return i;
+			}
+			i = (i + 1) & (keys.length - 1);
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the value of the specified key.
+	 * @param key key to search
+	 * @return found value or null
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(long key) {
+		int i = find(key);
+		if (i == -1) {
+			return null;
+		}
+		return (V)values[i];
+	}
+
+	/**
+	 * Puts the value with specified key, old value of this key is replaced.
+	 * @param key key of the value
+	 * @param value value to put
+	 */
+	public void put(long key, V value) {
+		if ((size + 1) * 4 > keys.length * 3) {
+			resize(keys.length * 2);
+		}
+		int i = slot(key);
+		while (used[i]) {
+			if (keys[i] == key) {
+				values[i] = value;
+				return;
+			}
+			i = (i + 1) & (keys.length - 1);
+		}
+		used[i] = true;
+		keys[i] = key;
+		values[i] = value;
+		size++;
+	}
+
+	/**
+	 * Removes the value with specified key. The entries following the removed one are
+	 * shifted back, so the probe sequences stay unbroken.
+	 * @param key key of the value
+	 */
+	public void remove(long key) {
+		int i = find(key);
+		if (i == -1) {
+			return;
+		}
+		int mask = keys.length - 1;
+		int j = i;
+
+		while (true) {
+			j = (j + 1) & mask;
+			if (!used[j]) {
+				break;
+			}
+			int k = slot(keys[j]);
+			if ((j > i && (k <= i || k > j)) || (j < i && (k <= i && k > j))) {
+				keys[i] = keys[j];
+				values[i] = values[j];
+				i = j;
+			}
+		}
+		used[i] = false;
+		values[i] = null;
+		size--;
+	}
+
+	/**
+	 * Removes all the entries.
+	 */
+	public void clear() {
+		allocate(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Accessor to the size field.
+	 * @return number of the stored entries
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Copies all the entries to the new tables with specified capacity.
+	 * @param capacity new capacity
+	 */
+	@SuppressWarnings("unchecked")
+	private void resize(int capacity) {
+		long[] oldKeys = keys;
+		Object[] oldValues = values;
+		boolean[] oldUsed = used;
+		allocate(capacity);
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldUsed[i]) {
+				put(oldKeys[i], (V)oldValues[i]);
+			}
+		}
+	}
+}
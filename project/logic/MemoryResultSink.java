@@ -0,0 +1,192 @@
+package project.logic;
+
+import java.util.ArrayList;
+
+/**
+ * Keeps all the tables and messages in memory. It is used when results are processed by
+ * the program itself.
+ * @author Yaroslav
+ *
+ */
+public class MemoryResultSink implements ResultSink {
+
+	/**
+	 * Written tables.
+	 */
+	private final ArrayList<Table> tables;
+
+	/**
+	 * Written messages.
+	 */
+	private final ArrayList<String> messages;
+
+	/**
+	 * Current table, null if there is no table.
+	 */
+	private Table current;
+
+	/**
+	 * Main constructor.
+	 */
+	public MemoryResultSink() {
+		tables = new ArrayList<>();
+		messages = new ArrayList<>();
+	}
+
+	@Override
+	public void startTable(String name, String[] labelNames, String[] columnNames) {
+		current = new Table(name, labelNames.clone(), columnNames.clone());
+		tables.add(current);
+	}
+
+	@Override
+	public void writeRow(String[] labels, double[] values) {
+		if (current == null) {
+			throw new IllegalStateException("Table is not started");
+		}
+		current.labels.add(labels.clone());
+		current.values.add(values.clone());
+	}
+
+	@Override
+	public void endTable() {
+		current = null;
+	}
+
+	@Override
+	public void writeMessage(String message) {
+		messages.add(message);
+	}
+
+	@Override
+	public void close() {
+		endTable();
+	}
+
+	/**
+	 * Accessor to the tables field.
+	 * @return written tables
+	 */
+	public ArrayList<Table> getTables() {
+		return tables;
+	}
+
+	/**
+	 * Returns the table with the specified name.
+	 * @param name name of the table
+	 * @return last table with this name or null if there is no such table
+	 */
+	public Table getTable(String name) {
+		for (int i = tables.size() - 1; i >= 0; i--) {
+			if (tables.get(i).name.equals(name)) {
+				return tables.get(i);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Accessor to the messages field.
+	 * @return written messages
+	 */
+	public ArrayList<String> getMessages() {
+		return messages;
+	}
+
+	/**
+	 * Table of the results.
+	 * @author Yaroslav
+	 *
+	 */
+	public static class Table {
+
+		/**
+		 * Name of the table.
+		 */
+		private final String name;
+
+		/**
+		 * Names of the text cells.
+		 */
+		private final String[] labelNames;
+
+		/**
+		 * Names of the values.
+		 */
+		private final String[] columnNames;
+
+		/**
+		 * Text cells of the rows.
+		 */
+		private final ArrayList<String[]> labels;
+
+		/**
+		 * Values of the rows.
+		 */
+		private final ArrayList<double[]> values;
+
+		/**
+		 * Main constructor.
+		 * @param name name of the table
+		 * @param labelNames names of the text cells
+		 * @param columnNames names of the values
+		 */
+		private Table(String name, String[] labelNames, String[] columnNames) {
+			this.name = name;
+			this.labelNames = labelNames;
+			this.columnNames = columnNames;
+			labels = new ArrayList<>();
+			values = new ArrayList<>();
+		}
+
+		/**
+		 * Accessor to the name field.
+		 * @return name of the table
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Accessor to the label names field.
+		 * @return names of the text cells
+		 */
+		public String[] getLabelNames() {
+			return labelNames;
+		}
+
+		/**
+		 * Accessor to the column names field.
+		 * @return names of the values
+		 */
+		public String[] getColumnNames() {
+			return columnNames;
+		}
+
+		/**
+		 * Returns number of the rows.
+		 * @return number of the rows
+		 */
+		public int getRowsNumber() {
+			return values.size();
+		}
+
+		/**
+		 * Returns text cells of the row.
+		 * @param row row number
+		 * @return text cells
+		 */
+		public String[] getLabels(int row) {
+			return labels.get(row);
+		}
+
+		/**
+		 * Returns values of the row.
+		 * @param row row number
+		 * @return values
+		 */
+		public double[] getValues(int row) {
+			return values.get(row);
+		}
+	}
+}
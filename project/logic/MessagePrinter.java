@@ -0,0 +1,38 @@
+package project.logic;
+
+/**
+ * Output of the information messages. Logic classes print into it without knowing whether
+ * messages go to the console panel or anywhere else.
+ * @author Yaroslav
+ *
+ */
+public interface MessagePrinter {
+
+	/**
+	 * Prints separator.
+	 */
+	void printSeparator();
+
+	/**
+	 * Appends the information message with separator after it.
+	 * @param message information message
+	 */
+	void printBlock(String message);
+
+	/**
+	 * Appends the information message with "\n"(transport carriage) after it.
+	 * @param message information message
+	 */
+	void println(String message);
+
+	/**
+	 * Simply appends information message.
+	 * @param message information message
+	 */
+	void print(String message);
+
+	/**
+	 * Clears all the printed messages.
+	 */
+	void clearConsole();
+}
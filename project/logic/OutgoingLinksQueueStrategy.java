@@ -0,0 +1,35 @@
+package project.logic;
+
+/**
+ * Queue type with code 12. Graph nodes are sorted by descending number of the outgoing 
+ * transitions.
+ * @author Yaroslav
+ *
+ */
+public class OutgoingLinksQueueStrategy implements QueueStrategy {
+	
+	@Override
+	public int getQueueType() {
+		return 12;
+	}
+	
+	@Override
+	public double[] calculateKeys(GraphSnapshot snapshot) {
+		double[] keys = new double[snapshot.getSize()];
+		
+		for (int id = 0; id < keys.length; id++) {
+			keys[id] = -snapshot.getSuccessorsNumber(id);
+		}
+		return keys;
+	}
+	
+	@Override
+	public String generateQueueInfo(GraphSnapshot snapshot, int[] queueOrder) {
+		String[] values = new String[snapshot.getSize()];
+		
+		for (int id = 0; id < values.length; id++) {
+			values[id] = String.valueOf(snapshot.getSuccessorsNumber(id));
+		}
+		return QueueStrategies.generateQueueLine(snapshot, queueOrder, values);
+	}
+}
@@ -1,5 +1,7 @@
 package project.logic;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 
@@ -10,6 +12,21 @@ import java.util.ArrayList;
  */
 public class ProcessorLink implements Serializable {
 	
+	/**
+	 * Version of the serialized form, it is kept equal to the version of the first release.
+	 */
+	private static final long serialVersionUID = 8609681564117841904L;
+	
+	/**
+	 * State of the link, which transmits data to the other system node(duplex links only).
+	 */
+	public static final int OUT = 0;
+	
+	/**
+	 * State of the link, which receives data from the other system node(duplex links only).
+	 */
+	public static final int IN = 1;
+	
 	/**
 	 * Number of physical link.
 	 */
@@ -20,6 +37,26 @@ public class ProcessorLink implements Serializable {
 	 */
 	private ArrayList<DataTransmission> scheduledTransmissions;
 	
+	/**
+	 * Busy intervals of the link with the direction of transmission(IN or OUT).
+	 */
+	private Timeline<Integer> directionTimeline;
+	
+	/**
+	 * Intervals of the transmissions sent by this link.
+	 */
+	private Timeline<DataTransmission> transmissionTimeline;
+	
+	/**
+	 * Busy intervals of the link with OUT state.
+	 */
+	private Timeline<Integer> outTimeline;
+	
+	/**
+	 * Busy intervals of the link with IN state.
+	 */
+	private Timeline<Integer> inTimeline;
+	
 	/**
 	 * Main constructor.
 	 * @param linkNumber physical link number
@@ -27,6 +64,10 @@ public class ProcessorLink implements Serializable {
 	public ProcessorLink (int linkNumber) {
 		setLinkNumber(linkNumber);
 		scheduledTransmissions = new ArrayList<>();
+		directionTimeline = new Timeline<>();
+		transmissionTimeline = new Timeline<>();
+		outTimeline = new Timeline<>();
+		inTimeline = new Timeline<>();
 	}	
 	
 	/**
@@ -64,9 +105,144 @@ public class ProcessorLink implements Serializable {
 	
 	/**
 	 * This method adds another transmission to the physical link of system node.
+	 * Link is busy with OUT state during the transmission.
 	 * @param transmission transmission to add
 	 */
 	public void addScheduledTransmission(DataTransmission transmission) {
 		scheduledTransmissions.add(transmission);
+		directionTimeline.set(transmission.getStartTime(), transmission.getEndTime(), OUT);
+		transmissionTimeline.set(transmission.getStartTime(), transmission.getEndTime(), transmission);
+		outTimeline.set(transmission.getStartTime(), transmission.getEndTime(), OUT);
+		inTimeline.remove(transmission.getStartTime(), transmission.getEndTime());
+	}
+	
+	/**
+	 * Marks the link busy with IN state during the transmission received from the other system node.
+	 * @param transmission received transmission
+	 */
+	public void addReceivedTransmission(DataTransmission transmission) {
+		directionTimeline.set(transmission.getStartTime(), transmission.getEndTime(), IN);
+		inTimeline.set(transmission.getStartTime(), transmission.getEndTime(), IN);
+		outTimeline.remove(transmission.getStartTime(), transmission.getEndTime());
+	}
+	
+	/**
+	 * Checks whether link is busy on the specified period of time.
+	 * @param startTime first tact
+	 * @param endTime tact after the last one
+	 * @return true if at least one tact is busy
+	 */
+	public boolean isBusy(int startTime, int endTime) {
+		return directionTimeline.isBusy(startTime, endTime);
+	}
+	
+	/**
+	 * Checks whether link is busy with the specified state on the specified period of time.
+	 * @param startTime first tact
+	 * @param endTime tact after the last one
+	 * @param inOutState IN or OUT
+	 * @return true if at least one tact is busy with this state
+	 */
+	public boolean isBusy(int startTime, int endTime, int inOutState) {
+		return getStateTimeline(inOutState).isBusy(startTime, endTime);
+	}
+	
+	/**
+	 * Searches for the first free window of the link.
+	 * @param time the earliest start tact of the window
+	 * @param length window length in tacts
+	 * @return start tact of the found window
+	 */
+	public int findFreeWindow(int time, int length) {
+		return directionTimeline.findFreeWindow(time, length);
+	}
+	
+	/**
+	 * Searches for the first window, in which link isn't busy with the specified state.
+	 * @param inOutState IN or OUT
+	 * @param time the earliest start tact of the window
+	 * @param length window length in tacts
+	 * @return start tact of the found window
+	 */
+	public int findFreeWindow(int inOutState, int time, int length) {
+		return getStateTimeline(inOutState).findFreeWindow(time, length);
+	}
+	
+	/**
+	 * Returns busy intervals of the link with the specified state.
+	 * @param inOutState IN or OUT
+	 * @return state timeline
+	 */
+	private Timeline<Integer> getStateTimeline(int inOutState) {
+		if (inOutState == IN) {
+			return inTimeline;
+		}
+		return outTimeline;
+	}
+	
+	/**
+	 * Returns the state of the link in the specified tact.
+	 * @param tact tact number
+	 * @return IN, OUT or -1 if link is free
+	 */
+	public int getInOutState(int tact) {
+		Integer state = directionTimeline.get(tact);
+		if (state == null) {
+			return -1;
+		}
+		return state;
+	}
+	
+	/**
+	 * Returns the transmission sent by the link in the specified tact.
+	 * @param tact tact number
+	 * @return transmission or null
+	 */
+	public DataTransmission getTransmission(int tact) {
+		return transmissionTimeline.get(tact);
+	}
+	
+	/**
+	 * Accessor to the direction timeline field.
+	 * @return busy intervals of the link
+	 */
+	public Timeline<Integer> getDirectionTimeline() {
+		return directionTimeline;
+	}
+	
+	/**
+	 * Accessor to the transmission timeline field.
+	 * @return intervals of the sent transmissions
+	 */
+	public Timeline<DataTransmission> getTransmissionTimeline() {
+		return transmissionTimeline;
+	}
+	
+	/**
+	 * Restores the link from the stream. Files saved by the older versions don't contain
+	 * timelines, so they are created empty.
+	 * @param in input stream
+	 * @throws IOException if stream can't be read
+	 * @throws ClassNotFoundException if class of the field is not found
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		if (directionTimeline == null) {
+			directionTimeline = new Timeline<>();
+			transmissionTimeline = new Timeline<>();
+			outTimeline = new Timeline<>();
+			inTimeline = new Timeline<>();
+		}
+	}
+	
+	/**
+	 * Removes all the scheduled transmissions.
+	 */
+	public void reset() {
+		scheduledTransmissions.clear();
+		directionTimeline.clear();
+		transmissionTimeline.clear();
+		outTimeline.clear();
+		inTimeline.clear();
 	}
 }
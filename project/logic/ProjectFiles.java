@@ -0,0 +1,361 @@
+package project.logic;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+
+/**
+ * Reading and writing of the task graph and computer system files. Files are written in the
+ * compact binary format:
+ * 1. header - magic number of the file type and version of the format(int, int);
+ * 2. nodes - number of the nodes and the tables of their indexes, execution times(only task
+ * graph) and coordinates(int, int[], int[], double[], double[]);
+ * 3. links - number of the links and the tables of the positions of their first and second
+ * nodes in the node tables and communication times(only task graph)(int, int[], int[], int[]).
+ * Numbers are big-endian. The whole file is read into memory at once and parsed from the
+ * buffer. Old files with the serialized lists of the nodes and links are recognized by the
+ * serialization header and still can be read, so they are converted by saving them again.
+ * @author Yaroslav
+ *
+ */
+public final class ProjectFiles {
+
+	/**
+	 * Magic number of the task graph file("TGRF").
+	 */
+	public static final int GRAPH_MAGIC = 0x54475246;
+
+	/**
+	 * Magic number of the computer system file("CSYS").
+	 */
+	public static final int SYSTEM_MAGIC = 0x43535953;
+
+	/**
+	 * Current version of the format.
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * First bytes of the serialized objects stream.
+	 */
+	private static final short SERIALIZATION_MAGIC = (short)0xaced;
+
+	/**
+	 * Size of the header in bytes.
+	 */
+	private static final int HEADER_SIZE = 8;
+
+	/**
+	 * This class contains only static methods.
+	 */
+	private ProjectFiles() {
+	}
+
+	/**
+	 * Reads task graph from the file of the current or the old format.
+	 * @param filename path to the file
+	 * @return task graph
+	 * @throws IOException if file can't be read or has wrong format
+	 */
+	public static Graph readGraph(String filename) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(Paths.get(filename)));
+		if (isSerialized(buffer)) {
+			return readSerializedGraph(buffer, filename);
+		}
+
+		try {
+			checkHeader(buffer, GRAPH_MAGIC, filename);
+			int nodesNumber = readCount(buffer, 24, filename);
+			int[] indexes = readInts(buffer, nodesNumber);
+			int[] tExes = readInts(buffer, nodesNumber);
+			double[] cxs = readDoubles(buffer, nodesNumber);
+			double[] cys = readDoubles(buffer, nodesNumber);
+			int linksNumber = readCount(buffer, 12, filename);
+			int[] starts = readInts(buffer, linksNumber);
+			int[] ends = readInts(buffer, linksNumber);
+			int[] tComs = readInts(buffer, linksNumber);
+
+			Graph graph = new Graph();
+			GNode[] gnodes = new GNode[nodesNumber];
+			for (int i = 0; i < nodesNumber; i++) {
+				if (graph.getGNodeByIndex(indexes[i]) != null) {
+					throw new IOException("Duplicate graph node index " + indexes[i] + ": " + filename);
+				}
+				gnodes[i] = new GNode(tExes[i], indexes[i], cxs[i], cys[i]);
+				graph.addGNode(gnodes[i]);
+			}
+			for (int i = 0; i < linksNumber; i++) {
+				checkLink(starts[i], ends[i], nodesNumber, filename);
+				if (graph.findGLink(gnodes[starts[i]], gnodes[ends[i]]) != null) {
+					throw new IOException("Duplicate transition " + indexes[starts[i]] + " -> " + indexes[ends[i]]
+							+ ": " + filename);
+				}
+				graph.addGLink(new GLink(tComs[i], gnodes[starts[i]], gnodes[ends[i]]));
+			}
+			graph.setNextIndex();
+			return graph;
+		} catch (BufferUnderflowException e) {
+			throw new IOException("Task graph file is truncated: " + filename, e);
+		}
+	}
+
+	/**
+	 * Reads computer system from the file of the current or the old format.
+	 * @param filename path to the file
+	 * @return computer system
+	 * @throws IOException if file can't be read or has wrong format
+	 */
+	public static ComputerSystem readComputerSystem(String filename) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(Paths.get(filename)));
+		if (isSerialized(buffer)) {
+			return readSerializedComputerSystem(buffer, filename);
+		}
+
+		try {
+			checkHeader(buffer, SYSTEM_MAGIC, filename);
+			int nodesNumber = readCount(buffer, 20, filename);
+			int[] indexes = readInts(buffer, nodesNumber);
+			double[] cxs = readDoubles(buffer, nodesNumber);
+			double[] cys = readDoubles(buffer, nodesNumber);
+			int linksNumber = readCount(buffer, 8, filename);
+			int[] firsts = readInts(buffer, linksNumber);
+			int[] seconds = readInts(buffer, linksNumber);
+
+			ComputerSystem comSys = new ComputerSystem();
+			SystemNode[] nodes = new SystemNode[nodesNumber];
+			HashSet<Integer> usedIndexes = new HashSet<>();
+			for (int i = 0; i < nodesNumber; i++) {
+				if (!usedIndexes.add(indexes[i])) {
+					throw new IOException("Duplicate system node index " + indexes[i] + ": " + filename);
+				}
+				nodes[i] = new SystemNode(indexes[i], cxs[i], cys[i]);
+				comSys.addSystemNode(nodes[i]);
+			}
+			for (int i = 0; i < linksNumber; i++) {
+				checkLink(firsts[i], seconds[i], nodesNumber, filename);
+				if (nodes[firsts[i]].getNeighbours().contains(nodes[seconds[i]])) {
+					throw new IOException("Duplicate system link " + indexes[firsts[i]] + " - " + indexes[seconds[i]]
+							+ ": " + filename);
+				}
+				comSys.addSystemLink(new SystemLink(nodes[firsts[i]], nodes[seconds[i]]));
+			}
+			comSys.setNextIndex();
+			return comSys;
+		} catch (BufferUnderflowException e) {
+			throw new IOException("Computer system file is truncated: " + filename, e);
+		}
+	}
+
+	/**
+	 * Writes task graph to the file.
+	 * @param graph task graph
+	 * @param filename path to the file
+	 * @throws IOException if file can't be written
+	 */
+	public static void writeGraph(Graph graph, String filename) throws IOException {
+		ArrayList<GNode> gnodeList = graph.getGnodeList();
+		ArrayList<GLink> glinkList = graph.getGlinkList();
+		int nodesNumber = gnodeList.size();
+		int linksNumber = glinkList.size();
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + 4 + 24 * nodesNumber + 4 + 12 * linksNumber);
+		IdentityHashMap<GNode, Integer> positions = new IdentityHashMap<>();
+
+		buffer.putInt(GRAPH_MAGIC).putInt(VERSION);
+		buffer.putInt(nodesNumber);
+		for (GNode gnode : gnodeList) {
+			positions.put(gnode, positions.size());
+			buffer.putInt(gnode.getIndex());
+		}
+		for (GNode gnode : gnodeList) {
+			buffer.putInt(gnode.getTExe());
+		}
+		for (GNode gnode : gnodeList) {
+			buffer.putDouble(gnode.cx);
+		}
+		for (GNode gnode : gnodeList) {
+			buffer.putDouble(gnode.cy);
+		}
+
+		buffer.putInt(linksNumber);
+		for (GLink glink : glinkList) {
+			buffer.putInt(positions.get(glink.getStart()));
+		}
+		for (GLink glink : glinkList) {
+			buffer.putInt(positions.get(glink.getEnd()));
+		}
+		for (GLink glink : glinkList) {
+			buffer.putInt(glink.getTCom());
+		}
+		Files.write(Paths.get(filename), buffer.array());
+	}
+
+	/**
+	 * Writes computer system to the file.
+	 * @param comSys computer system
+	 * @param filename path to the file
+	 * @throws IOException if file can't be written
+	 */
+	public static void writeComputerSystem(ComputerSystem comSys, String filename) throws IOException {
+		ArrayList<SystemNode> nodeList = comSys.getNodeList();
+		ArrayList<SystemLink> linkList = comSys.getLinkList();
+		int nodesNumber = nodeList.size();
+		int linksNumber = linkList.size();
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + 4 + 20 * nodesNumber + 4 + 8 * linksNumber);
+		IdentityHashMap<SystemNode, Integer> positions = new IdentityHashMap<>();
+
+		buffer.putInt(SYSTEM_MAGIC).putInt(VERSION);
+		buffer.putInt(nodesNumber);
+		for (SystemNode sysNode : nodeList) {
+			positions.put(sysNode, positions.size());
+			buffer.putInt(sysNode.getIndex());
+		}
+		for (SystemNode sysNode : nodeList) {
+			buffer.putDouble(sysNode.cx);
+		}
+		for (SystemNode sysNode : nodeList) {
+			buffer.putDouble(sysNode.cy);
+		}
+
+		buffer.putInt(linksNumber);
+		for (SystemLink link : linkList) {
+			buffer.putInt(positions.get(link.getFirstNode()));
+		}
+		for (SystemLink link : linkList) {
+			buffer.putInt(positions.get(link.getSecondNode()));
+		}
+		Files.write(Paths.get(filename), buffer.array());
+	}
+
+	/**
+	 * Checks whether file contains serialized objects(old format).
+	 * @param buffer file contents
+	 * @return true if file starts with the serialization header
+	 */
+	private static boolean isSerialized(ByteBuffer buffer) {
+		return (buffer.remaining() >= 2) && (buffer.getShort(0) == SERIALIZATION_MAGIC);
+	}
+
+	/**
+	 * Checks magic number and version of the file.
+	 * @param buffer file contents
+	 * @param magic expected magic number
+	 * @param filename path to the file
+	 * @throws IOException if file has another type or unsupported version
+	 */
+	private static void checkHeader(ByteBuffer buffer, int magic, String filename) throws IOException {
+		if ((buffer.remaining() < HEADER_SIZE) || (buffer.getInt() != magic)) {
+			throw new IOException("Wrong file format: " + filename);
+		}
+		int version = buffer.getInt();
+		if ((version < 1) || (version > VERSION)) {
+			throw new IOException("Unsupported file version " + version + ": " + filename);
+		}
+	}
+
+	/**
+	 * Reads number of the table rows and checks that the file is long enough to contain them.
+	 * @param buffer file contents
+	 * @param rowSize size of the row of all the tables in bytes
+	 * @param filename path to the file
+	 * @return number of the rows
+	 * @throws IOException if number is wrong
+	 */
+	private static int readCount(ByteBuffer buffer, int rowSize, String filename) throws IOException {
+		int count = buffer.getInt();
+		if ((count < 0) || ((long)count * rowSize > buffer.remaining())) {
+			throw new IOException("Wrong number of the records " + count + ": " + filename);
+		}
+		return count;
+	}
+
+	/**
+	 * Reads the table of integers.
+	 * @param buffer file contents
+	 * @param length number of the values
+	 * @return values
+	 */
+	private static int[] readInts(ByteBuffer buffer, int length) {
+		int[] values = new int[length];
+		buffer.asIntBuffer().get(values);
+		buffer.position(buffer.position() + 4 * length);
+		return values;
+	}
+
+	/**
+	 * Reads the table of doubles.
+	 * @param buffer file contents
+	 * @param length number of the values
+	 * @return values
+	 */
+	private static double[] readDoubles(ByteBuffer buffer, int length) {
+		double[] values = new double[length];
+		buffer.asDoubleBuffer().get(values);
+		buffer.position(buffer.position() + 8 * length);
+		return values;
+	}
+
+	/**
+	 * Checks positions of the link nodes.
+	 * @param first position of the first node
+	 * @param second position of the second node
+	 * @param nodesNumber number of the nodes
+	 * @param filename path to the file
+	 * @throws IOException if positions are wrong
+	 */
+	private static void checkLink(int first, int second, int nodesNumber, String filename) throws IOException {
+		if ((first < 0) || (first >= nodesNumber) || (second < 0) || (second >= nodesNumber) || (first == second)) {
+			throw new IOException("Wrong link nodes " + first + ", " + second + ": " + filename);
+		}
+	}
+
+	/**
+	 * Reads task graph from the serialized lists of the graph nodes and transitions.
+	 * @param buffer file contents
+	 * @param filename path to the file
+	 * @return task graph
+	 * @throws IOException if file has wrong format
+	 */
+	@SuppressWarnings("unchecked")
+	private static Graph readSerializedGraph(ByteBuffer buffer, String filename) throws IOException {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(buffer.array()))) {
+			ArrayList<GNode> gnodeList = (ArrayList<GNode>)in.readObject();
+			ArrayList<GLink> glinkList = (ArrayList<GLink>)in.readObject();
+			Graph graph = new Graph();
+			graph.setGnodeList(gnodeList);
+			graph.setGlinkList(glinkList);
+			graph.setNextIndex();
+			return graph;
+		} catch (ClassNotFoundException | ClassCastException e) {
+			throw new IOException("Wrong task graph file format: " + filename, e);
+		}
+	}
+
+	/**
+	 * Reads computer system from the serialized lists of the system nodes and links.
+	 * @param buffer file contents
+	 * @param filename path to the file
+	 * @return computer system
+	 * @throws IOException if file has wrong format
+	 */
+	@SuppressWarnings("unchecked")
+	private static ComputerSystem readSerializedComputerSystem(ByteBuffer buffer, String filename) throws IOException {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(buffer.array()))) {
+			ArrayList<SystemNode> nodeList = (ArrayList<SystemNode>)in.readObject();
+			ArrayList<SystemLink> linkList = (ArrayList<SystemLink>)in.readObject();
+			ComputerSystem comSys = new ComputerSystem();
+			comSys.setNodeList(nodeList);
+			comSys.setLinkList(linkList);
+			comSys.setNextIndex();
+			return comSys;
+		} catch (ClassNotFoundException | ClassCastException e) {
+			throw new IOException("Wrong computer system file format: " + filename, e);
+		}
+	}
+}
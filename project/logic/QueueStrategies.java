@@ -0,0 +1,76 @@
+package project.logic;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+/**
+ * Registry of the queue generation strategies. Strategies with codes 1, 12 and 16 are
+ * registered by default, new strategies become available for graph queue generation
+ * after they are registered.
+ * @author Yaroslav
+ *
+ */
+public final class QueueStrategies {
+	
+	/**
+	 * Registered strategies by the queue type codes.
+	 */
+	private static final LinkedHashMap<Integer, QueueStrategy> strategies = new LinkedHashMap<>();
+	
+	static {
+		register(new CriticalPathQueueStrategy());
+		register(new OutgoingLinksQueueStrategy());
+		register(new CriticalTimeQueueStrategy());
+	}
+	
+	/**
+	 * Static class.
+	 */
+	private QueueStrategies() {
+	}
+	
+	/**
+	 * Registers the strategy. Strategy with the same queue type code is replaced.
+	 * @param strategy strategy to register
+	 */
+	public static synchronized void register(QueueStrategy strategy) {
+		strategies.put(strategy.getQueueType(), strategy);
+	}
+	
+	/**
+	 * Searches for strategy with specified queue type code.
+	 * @param queueType code of the queue type
+	 * @return found strategy or null
+	 */
+	public static synchronized QueueStrategy get(int queueType) {
+		return strategies.get(queueType);
+	}
+	
+	/**
+	 * Returns codes of all the registered strategies.
+	 * @return a list of the queue type codes
+	 */
+	public static synchronized ArrayList<Integer> getQueueTypes() {
+		return new ArrayList<>(strategies.keySet());
+	}
+	
+	/**
+	 * Generates the line of the queue, each graph node is followed by its value in brackets.
+	 * @param snapshot snapshot of the task graph
+	 * @param queueOrder ids of the graph nodes in the order of the queue
+	 * @param values values of the graph nodes(by id)
+	 * @return queue line
+	 */
+	static String generateQueueLine(GraphSnapshot snapshot, int[] queueOrder, String[] values) {
+		StringBuilder line = new StringBuilder();
+		
+		for (int i = 0; i < queueOrder.length; i++) {
+			int id = queueOrder[i];
+			line.append('G').append(snapshot.getGNodeIndex(id)).append('(').append(values[id]).append(')');
+			if (i < queueOrder.length - 1) {
+				line.append(" | ");
+			}
+		}
+		return line.toString();
+	}
+}
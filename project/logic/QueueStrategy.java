@@ -0,0 +1,32 @@
+package project.logic;
+
+/**
+ * Describes the way of the task graph queue generation. Strategy calculates sorting key 
+ * of every graph node, then the graph nodes are sorted by ascending keys (nodes with equal
+ * keys keep the order of the graph nodes list).
+ * @author Yaroslav
+ *
+ */
+public interface QueueStrategy {
+	
+	/**
+	 * Accessor to the queue type code.
+	 * @return code of the queue type
+	 */
+	int getQueueType();
+	
+	/**
+	 * Calculates sorting keys of the graph nodes.
+	 * @param snapshot snapshot of the task graph
+	 * @return array of the keys(by graph node id)
+	 */
+	double[] calculateKeys(GraphSnapshot snapshot);
+	
+	/**
+	 * Generates information message about generated queue.
+	 * @param snapshot snapshot of the task graph
+	 * @param queueOrder ids of the graph nodes in the order of the queue
+	 * @return information string
+	 */
+	String generateQueueInfo(GraphSnapshot snapshot, int[] queueOrder);
+}
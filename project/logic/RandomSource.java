@@ -0,0 +1,84 @@
+package project.logic;
+
+import java.util.SplittableRandom;
+
+/**
+ * Source of the random values for the random graphs generation and random mapping. The same
+ * seed gives the same sequence of values, so every random graph and schedule can be
+ * reproduced. Source is not thread-safe, each thread should use its own source created
+ * by {@link #split()}, so parallel workers don't share the generator.
+ * @author Yaroslav
+ *
+ */
+public final class RandomSource {
+
+	/**
+	 * Generator of the values.
+	 */
+	private final SplittableRandom random;
+
+	/**
+	 * Main constructor. Creates source with the unpredictable seed.
+	 */
+	public RandomSource() {
+		random = new SplittableRandom();
+	}
+
+	/**
+	 * Creates source with the specified seed.
+	 * @param seed initial seed
+	 */
+	public RandomSource(long seed) {
+		random = new SplittableRandom(seed);
+	}
+
+	/**
+	 * Creates source with the specified generator.
+	 * @param random generator of the values
+	 */
+	private RandomSource(SplittableRandom random) {
+		this.random = random;
+	}
+
+	/**
+	 * Creates new independent source. Sequence of the new source depends only on the state of
+	 * this source, so sources split in the same order are the same.
+	 * @return new source
+	 */
+	public RandomSource split() {
+		return new RandomSource(random.split());
+	}
+
+	/**
+	 * Generates random value from the specified range(both bounds are included).
+	 * @param min minimum value
+	 * @param max maximum value
+	 * @return random value
+	 */
+	public int nextInt(int min, int max) {
+		if (min > max) {
+			throw new IllegalArgumentException("Minimum value " + min + " is greater than maximum value " + max);
+		}
+		if (max == Integer.MAX_VALUE) {
+			return (int)random.nextLong(min, (long)max + 1);
+		}
+		return random.nextInt(min, max + 1);
+	}
+
+	/**
+	 * Generates random index.
+	 * @param bound number of the indexes
+	 * @return random value from 0 to bound - 1
+	 */
+	public int nextIndex(int bound) {
+		return random.nextInt(bound);
+	}
+
+	/**
+	 * Generates random seed for the other generators.
+	 * @return random long value
+	 */
+	public long nextLong() {
+		return random.nextLong();
+	}
+}
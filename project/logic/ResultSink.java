@@ -0,0 +1,45 @@
+package project.logic;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Receiver of the results of the scheduling and modeling. Results are written as tables:
+ * each row has several text cells(graph name, parameters, correlation...) and several
+ * numeric values(Kp, Ke, Kea...). Tables can't be nested, messages can be written between
+ * the tables. Sinks are not thread-safe unless it is said otherwise.
+ * @author Yaroslav
+ *
+ */
+public interface ResultSink extends Closeable {
+
+	/**
+	 * Starts new table.
+	 * @param name name of the table
+	 * @param labelNames names of the text cells
+	 * @param columnNames names of the values
+	 * @throws IOException if table can't be written
+	 */
+	void startTable(String name, String[] labelNames, String[] columnNames) throws IOException;
+
+	/**
+	 * Writes the row of the current table.
+	 * @param labels text cells of the row
+	 * @param values values of the row
+	 * @throws IOException if row can't be written
+	 */
+	void writeRow(String[] labels, double[] values) throws IOException;
+
+	/**
+	 * Ends the current table.
+	 * @throws IOException if table can't be written
+	 */
+	void endTable() throws IOException;
+
+	/**
+	 * Writes the information message.
+	 * @param message information message
+	 * @throws IOException if message can't be written
+	 */
+	void writeMessage(String message) throws IOException;
+}
@@ -0,0 +1,347 @@
+package project.logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Routing tables of the computer system. Breadth-first search is done once from every
+ * system node, so the hop distances between all the pairs of nodes and the previous nodes
+ * of the shortest paths are stored in the matrices. Searches from different nodes are
+ * independent, so on large systems they are done in parallel.
+ * Paths are the same as the ones found by the breadth-first search from the source node.
+ * Tables are never changed after they are built, so they are the immutable topology of the
+ * computer system, which is shared by all the scheduling runs and by the copies of the system.
+ * @author Yaroslav
+ *
+ */
+public final class RoutingTable {
+
+	/**
+	 * Minimum number of the system nodes, for which the tables are built in parallel.
+	 */
+	private static final int PARALLEL_THRESHOLD = 64;
+
+	/**
+	 * System nodes by their routing ids.
+	 */
+	private final SystemNode[] nodes;
+
+	/**
+	 * Routing ids of the system nodes.
+	 */
+	private final IdentityHashMap<SystemNode, Integer> ids;
+
+	/**
+	 * Number of the system nodes.
+	 */
+	private final int size;
+
+	/**
+	 * Hop distances matrix(source * size + destination), -1 if destination is not reachable.
+	 */
+	private final int[] distances;
+
+	/**
+	 * Previous nodes matrix(source * size + node). It contains the id of the node previous
+	 * to the specified one on the shortest path from the source node.
+	 */
+	private final int[] prev;
+
+	/**
+	 * Routing ids sorted by the system nodes priority(number of the neighbours). Nodes with
+	 * the same priority keep the order of the system nodes list.
+	 */
+	private final int[] priorityOrder;
+
+	/**
+	 * Main constructor. Builds routing tables of the specified system nodes.
+	 * @param nodeList a list of the system nodes
+	 */
+	public RoutingTable(ArrayList<SystemNode> nodeList) {
+		size = nodeList.size();
+		nodes = nodeList.toArray(new SystemNode[size]);
+		ids = new IdentityHashMap<>();
+
+		for (int i = 0; i < size; i++) {
+			ids.put(nodes[i], i);
+		}
+
+		int[] neighboursOffsets = new int[size + 1];
+		ArrayList<Integer> neighbours = new ArrayList<>();
+
+		for (int i = 0; i < size; i++) {
+			for (SystemNode neighbour : nodes[i].getNeighbours()) {
+				Integer id = ids.get(neighbour);
+				if (id != null) {
+					neighbours.add(id);
+				}
+			}
+			neighboursOffsets[i + 1] = neighbours.size();
+		}
+
+		int[] neighbourIds = new int[neighbours.size()];
+		for (int i = 0; i < neighbourIds.length; i++) {
+			neighbourIds[i] = neighbours.get(i);
+		}
+
+		distances = new int[size * size];
+		prev = new int[size * size];
+
+		if (size >= PARALLEL_THRESHOLD) {
+			ForkJoinPool.commonPool().invoke(new SearchTask(0, size, neighboursOffsets, neighbourIds));
+		} else {
+			int[] queue = new int[size];
+			for (int source = 0; source < size; source++) {
+				search(source, neighboursOffsets, neighbourIds, queue);
+			}
+		}
+
+		Integer[] order = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			order[i] = i;
+		}
+		final int[] priorities = new int[size];
+		for (int i = 0; i < size; i++) {
+			priorities[i] = nodes[i].getPriority();
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+
+			@Override
+			public int compare(Integer id1, Integer id2) {
+				return priorities[id1] - priorities[id2];
+			}
+		});
+		priorityOrder = new int[size];
+		for (int i = 0; i < size; i++) {
+			priorityOrder[i] = order[i];
+		}
+	}
+
+	/**
+	 * Copy constructor. Matrices of the specified table are shared, only the system nodes
+	 * are replaced with their copies.
+	 * @param table routing tables to copy
+	 * @param nodes copies of the system nodes in the order of the table
+	 */
+	private RoutingTable(RoutingTable table, SystemNode[] nodes) {
+		size = table.size;
+		distances = table.distances;
+		prev = table.prev;
+		priorityOrder = table.priorityOrder;
+		this.nodes = nodes;
+		ids = new IdentityHashMap<>();
+
+		for (int i = 0; i < size; i++) {
+			ids.put(nodes[i], i);
+		}
+	}
+
+	/**
+	 * Creates routing tables of the copies of the system nodes. Matrices are not copied,
+	 * as they are never changed.
+	 * @param copies copies of the system nodes in the order of this table
+	 * @return routing tables of the copies
+	 */
+	RoutingTable copyFor(SystemNode[] copies) {
+		return new RoutingTable(this, copies);
+	}
+
+	/**
+	 * Breadth-first search from the specified source node. Fills the rows of the source node
+	 * in the distances and previous nodes matrices.
+	 * @param source source node id
+	 * @param neighboursOffsets offsets of the neighbours of each node
+	 * @param neighbourIds neighbours ids
+	 * @param queue buffer for the search queue
+	 */
+	private void search(int source, int[] neighboursOffsets, int[] neighbourIds, int[] queue) {
+		int row = source * size;
+		Arrays.fill(distances, row, row + size, -1);
+		Arrays.fill(prev, row, row + size, -1);
+		int head = 0;
+		int tail = 0;
+		distances[row + source] = 0;
+		queue[tail++] = source;
+
+		while (head < tail) {
+			int current = queue[head++];
+			for (int k = neighboursOffsets[current]; k < neighboursOffsets[current + 1]; k++) {
+				int neighbour = neighbourIds[k];
+				if (distances[row + neighbour] == -1) {
+					distances[row + neighbour] = distances[row + current] + 1;
+					prev[row + neighbour] = current;
+					queue[tail++] = neighbour;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Accessor to the size field.
+	 * @return number of the system nodes
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns routing id of the system node.
+	 * @param sysNode system node
+	 * @return routing id or -1 if there is no such node in the table
+	 */
+	public int getId(SystemNode sysNode) {
+		Integer id = ids.get(sysNode);
+		if (id == null) {
+			return -1;
+		}
+		return id;
+	}
+
+	/**
+	 * Returns system node with the specified routing id.
+	 * @param id routing id
+	 * @return system node
+	 */
+	public SystemNode getSystemNode(int id) {
+		return nodes[id];
+	}
+
+	/**
+	 * Returns routing id of the system node with the specified position in the priority order.
+	 * @param position position in the priority order
+	 * @return routing id
+	 */
+	public int getIdByPriority(int position) {
+		return priorityOrder[position];
+	}
+
+	/**
+	 * Returns the number of hops between two system nodes.
+	 * @param srcId source node routing id
+	 * @param destId destination node routing id
+	 * @return hop distance or -1 if destination is not reachable
+	 */
+	public int getDistance(int srcId, int destId) {
+		return distances[srcId * size + destId];
+	}
+
+	/**
+	 * Returns the number of hops between two system nodes.
+	 * @param srcNode source node
+	 * @param destNode destination node
+	 * @return hop distance or -1 if destination is not reachable
+	 */
+	public int getDistance(SystemNode srcNode, SystemNode destNode) {
+		return getDistance(getId(srcNode), getId(destNode));
+	}
+
+	/**
+	 * Generates the shortest path between two system nodes.
+	 * @param srcNode source node
+	 * @param destNode destination node
+	 * @return a list of system nodes of the path(both source and destination are included)
+	 * or null if destination is not reachable
+	 */
+	public ArrayList<SystemNode> getPath(SystemNode srcNode, SystemNode destNode) {
+		int srcId = getId(srcNode);
+		int destId = getId(destNode);
+		int distance = getDistance(srcId, destId);
+
+		if (distance == -1) {
+			return null;
+		}
+
+		SystemNode[] path = new SystemNode[distance + 1];
+		int row = srcId * size;
+
+		for (int i = distance, id = destId; i >= 0; i--, id = prev[row + id]) {
+			path[i] = nodes[id];
+		}
+		return new ArrayList<>(Arrays.asList(path));
+	}
+
+	/**
+	 * Generates the shortest path between two system nodes.
+	 * @param srcId source node routing id
+	 * @param destId destination node routing id
+	 * @return routing ids of the path nodes(both source and destination are included)
+	 * or null if destination is not reachable
+	 */
+	public int[] getPathIds(int srcId, int destId) {
+		int distance = getDistance(srcId, destId);
+
+		if (distance == -1) {
+			return null;
+		}
+
+		int[] path = new int[distance + 1];
+		int row = srcId * size;
+
+		for (int i = distance, id = destId; i >= 0; i--, id = prev[row + id]) {
+			path[i] = id;
+		}
+		return path;
+	}
+
+	/**
+	 * Task of the breadth-first searches from the range of the source nodes. Large ranges are
+	 * split into two halves, which are searched in parallel.
+	 * @author Yaroslav
+	 *
+	 */
+	@SuppressWarnings("serial")
+	private class SearchTask extends RecursiveAction {
+
+		/**
+		 * First source node id.
+		 */
+		private final int from;
+
+		/**
+		 * Source node id after the last one.
+		 */
+		private final int to;
+
+		/**
+		 * Offsets of the neighbours of each node.
+		 */
+		private final int[] neighboursOffsets;
+
+		/**
+		 * Neighbours ids.
+		 */
+		private final int[] neighbourIds;
+
+		/**
+		 * Main constructor.
+		 * @param from first source node id
+		 * @param to source node id after the last one
+		 * @param neighboursOffsets offsets of the neighbours of each node
+		 * @param neighbourIds neighbours ids
+		 */
+		public SearchTask(int from, int to, int[] neighboursOffsets, int[] neighbourIds) {
+			this.from = from;
+			this.to = to;
+			this.neighboursOffsets = neighboursOffsets;
+			this.neighbourIds = neighbourIds;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > PARALLEL_THRESHOLD / 4) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new SearchTask(from, middle, neighboursOffsets, neighbourIds),
+						new SearchTask(middle, to, neighboursOffsets, neighbourIds));
+			} else {
+				int[] queue = new int[size];
+				for (int source = from; source < to; source++) {
+					search(source, neighboursOffsets, neighbourIds, queue);
+				}
+			}
+		}
+	}
+}
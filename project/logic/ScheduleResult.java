@@ -0,0 +1,395 @@
+package project.logic;
+
+import java.util.Arrays;
+
+/**
+ * Result of the single scheduling run of the task graph on the computer system. All the
+ * data of the run is stored here, so the task graph and the computer system are not changed
+ * by the scheduling and can be used by several runs at the same time.
+ * Graph nodes are identified by their ids in the graph snapshot, processors are identified
+ * by the ids of the system nodes in the routing table. Times are stored in primitive arrays
+ * indexed by these ids.
+ * Schedule can be taken from the {@link ScheduleResultPool}, then its arrays, timelines and
+ * physical links are reused by the next runs after it is released.
+ * @author Yaroslav
+ *
+ */
+public final class ScheduleResult {
+
+	/**
+	 * Snapshot of the scheduled task graph.
+	 */
+	private GraphSnapshot snapshot;
+
+	/**
+	 * Graph nodes of the snapshot(by id).
+	 */
+	private GNode[] gnodes;
+
+	/**
+	 * Routing tables of the computer system. They define processor ids.
+	 */
+	private RoutingTable routingTable;
+
+	/**
+	 * Parameters of the run.
+	 */
+	private SchedulingContext context;
+
+	/**
+	 * Number of the graph nodes. Arrays of the reused schedule may be longer.
+	 */
+	private int size;
+
+	/**
+	 * Start times of the graph nodes(by id).
+	 */
+	private int[] startTimes;
+
+	/**
+	 * End times of the graph nodes(by id).
+	 */
+	private int[] endTimes;
+
+	/**
+	 * Processors, to which graph nodes are assigned(by id), -1 if node isn't assigned.
+	 */
+	private int[] processors;
+
+	/**
+	 * The last graph node assigned to each processor, -1 if processor is empty.
+	 */
+	private int[] lastGNodes;
+
+	/**
+	 * Number of the processors without assigned graph nodes.
+	 */
+	private int emptyProcessorsNumber;
+
+	/**
+	 * Intervals of the graph nodes executed by each processor.
+	 */
+	private Timeline<GNode>[] processorTimelines;
+
+	/**
+	 * Physical links of each processor.
+	 */
+	private ProcessorLink[][] processorLinks;
+
+	/**
+	 * Ids of the graph nodes by their unique indexes, it is built on the first request.
+	 */
+	private LongKeyMap<Integer> gnodeIds;
+
+	/**
+	 * Main constructor. Creates empty schedule.
+	 * @param snapshot snapshot of the task graph
+	 * @param gnodes graph nodes of the snapshot(by id)
+	 * @param routingTable routing tables of the computer system
+	 * @param context parameters of the run
+	 */
+	ScheduleResult(GraphSnapshot snapshot, GNode[] gnodes, RoutingTable routingTable, SchedulingContext context) {
+		reset(snapshot, gnodes, routingTable, context);
+	}
+
+	/**
+	 * Makes the schedule empty and prepares it for the new run. Arrays, timelines and physical
+	 * links are reused if they fit the new task graph and computer system.
+	 * @param snapshot snapshot of the task graph
+	 * @param gnodes graph nodes of the snapshot(by id)
+	 * @param routingTable routing tables of the computer system
+	 * @param context parameters of the run
+	 */
+	@SuppressWarnings("unchecked")
+	void reset(GraphSnapshot snapshot, GNode[] gnodes, RoutingTable routingTable, SchedulingContext context) {
+		this.snapshot = snapshot;
+		this.gnodes = gnodes;
+		this.routingTable = routingTable;
+		this.context = context;
+		gnodeIds = null;
+		size = snapshot.getSize();
+		int processorsNumber = routingTable.getSize();
+		int linksNumber = context.getLinksNumber();
+
+		if ((startTimes == null) || (startTimes.length < size)) {
+			startTimes = new int[size];
+			endTimes = new int[size];
+			processors = new int[size];
+		}
+		Arrays.fill(startTimes, 0, size, 0);
+		Arrays.fill(endTimes, 0, size, 0);
+		Arrays.fill(processors, 0, size, -1);
+
+		if ((lastGNodes == null) || (lastGNodes.length != processorsNumber)) {
+			lastGNodes = new int[processorsNumber];
+			processorTimelines = createTimelines(processorsNumber);
+			processorLinks = new ProcessorLink[processorsNumber][];
+		}
+		Arrays.fill(lastGNodes, -1);
+		emptyProcessorsNumber = processorsNumber;
+
+		for (int p = 0; p < processorsNumber; p++) {
+			if (processorTimelines[p] == null) {
+				processorTimelines[p] = new Timeline<>();
+			} else {
+				processorTimelines[p].clear();
+			}
+			if ((processorLinks[p] == null) || (processorLinks[p].length != linksNumber)) {
+				processorLinks[p] = new ProcessorLink[linksNumber];
+				for (int i = 0; i < linksNumber; i++) {
+					processorLinks[p][i] = new ProcessorLink(i);
+				}
+			} else {
+				for (ProcessorLink pLink : processorLinks[p]) {
+					pLink.reset();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates an array of the processor timelines.
+	 * @param processorsNumber number of the processors
+	 * @return array of the empty elements
+	 */
+	@SuppressWarnings("unchecked")
+	private static Timeline<GNode>[] createTimelines(int processorsNumber) {
+		return (Timeline<GNode>[])new Timeline<?>[processorsNumber];
+	}
+
+	/**
+	 * Assigns graph node to the processor.
+	 * @param id graph node id
+	 * @param processor processor id
+	 * @param startTime start time(first tact) of the graph node
+	 * @param endTime end time(tact after the last one) of the graph node
+	 */
+	void assign(int id, int processor, int startTime, int endTime) {
+		startTimes[id] = startTime;
+		endTimes[id] = endTime;
+		processors[id] = processor;
+		if (lastGNodes[processor] == -1) {
+			emptyProcessorsNumber--;
+		}
+		lastGNodes[processor] = id;
+		processorTimelines[processor].set(startTime, endTime, gnodes[id]);
+	}
+
+	/**
+	 * Accessor to the snapshot field.
+	 * @return snapshot of the scheduled task graph
+	 */
+	public GraphSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Accessor to the routing table field.
+	 * @return routing tables of the computer system
+	 */
+	public RoutingTable getRoutingTable() {
+		return routingTable;
+	}
+
+	/**
+	 * Accessor to the context field.
+	 * @return parameters of the run
+	 */
+	public SchedulingContext getContext() {
+		return context;
+	}
+
+	/**
+	 * Returns number of the processors.
+	 * @return processors number
+	 */
+	public int getProcessorsNumber() {
+		return lastGNodes.length;
+	}
+
+	/**
+	 * Returns processor with the specified position in the priority order. Processors with
+	 * the same priority keep the order of the system nodes list.
+	 * @param position position in the priority order
+	 * @return processor id
+	 */
+	public int getProcessorByPriority(int position) {
+		return routingTable.getIdByPriority(position);
+	}
+
+	/**
+	 * Returns system node of the processor.
+	 * @param processor processor id
+	 * @return system node
+	 */
+	public SystemNode getSystemNode(int processor) {
+		return routingTable.getSystemNode(processor);
+	}
+
+	/**
+	 * Returns graph node with the specified id.
+	 * @param id graph node id
+	 * @return graph node
+	 */
+	public GNode getGNode(int id) {
+		return gnodes[id];
+	}
+
+	/**
+	 * Searches for the id of the graph node.
+	 * @param gnode graph node
+	 * @return graph node id or -1 if node isn't scheduled in this run
+	 */
+	public int getGNodeId(GNode gnode) {
+		if (gnodeIds == null) {
+			LongKeyMap<Integer> ids = new LongKeyMap<>();
+			for (int id = 0; id < size; id++) {
+				ids.put(gnodes[id].getIndex(), id);
+			}
+			gnodeIds = ids;
+		}
+		Integer id = gnodeIds.get(gnode.getIndex());
+		if ((id == null) || (gnodes[id] != gnode)) {
+			return -1;
+		}
+		return id;
+	}
+
+	/**
+	 * Returns start time of the graph node.
+	 * @param id graph node id
+	 * @return first tact
+	 */
+	public int getStartTime(int id) {
+		return startTimes[id];
+	}
+
+	/**
+	 * Returns end time of the graph node.
+	 * @param id graph node id
+	 * @return tact after the last one
+	 */
+	public int getEndTime(int id) {
+		return endTimes[id];
+	}
+
+	/**
+	 * Returns processor, to which graph node is assigned.
+	 * @param id graph node id
+	 * @return processor id or -1 if graph node isn't assigned
+	 */
+	public int getProcessor(int id) {
+		return processors[id];
+	}
+
+	/**
+	 * Checks whether graph node is assigned or not.
+	 * @param id graph node id
+	 * @return true if assigned
+	 */
+	public boolean isAssigned(int id) {
+		return processors[id] != -1;
+	}
+
+	/**
+	 * Returns ids of the graph nodes assigned to the processor.
+	 * @param processor processor id
+	 * @return graph node ids
+	 */
+	public int[] getScheduledGNodes(int processor) {
+		int count = 0;
+		for (int id = 0; id < size; id++) {
+			if (processors[id] == processor) {
+				count++;
+			}
+		}
+		int[] scheduledGNodes = new int[count];
+		count = 0;
+		for (int id = 0; id < size; id++) {
+			if (processors[id] == processor) {
+				scheduledGNodes[count++] = id;
+			}
+		}
+		return scheduledGNodes;
+	}
+
+	/**
+	 * Checks whether processor has assigned graph nodes or not.
+	 * @param processor processor id
+	 * @return true if processor is empty
+	 */
+	public boolean isEmpty(int processor) {
+		return lastGNodes[processor] == -1;
+	}
+
+	/**
+	 * Checks whether there are processors without assigned graph nodes.
+	 * @return true if there are empty processors
+	 */
+	public boolean hasEmptyProcessors() {
+		return emptyProcessorsNumber > 0;
+	}
+
+	/**
+	 * Returns end time of the last graph node assigned to the processor.
+	 * @param processor processor id
+	 * @return last tact of the last scheduled task
+	 */
+	public int getLastTaskEndTime(int processor) {
+		if (lastGNodes[processor] == -1) {
+			return 0;
+		}
+		return endTimes[lastGNodes[processor]];
+	}
+
+	/**
+	 * Accessor to the processor timeline.
+	 * @param processor processor id
+	 * @return intervals of the executed graph nodes
+	 */
+	public Timeline<GNode> getProcessorTimeline(int processor) {
+		return processorTimelines[processor];
+	}
+
+	/**
+	 * Returns physical links of the processor.
+	 * @param processor processor id
+	 * @return physical links
+	 */
+	public ProcessorLink[] getProcessorLinks(int processor) {
+		return processorLinks[processor];
+	}
+
+	/**
+	 * Returns the state of the processor and its physical links in the specified tact.
+	 * @param processor processor id
+	 * @param tactNum tact number
+	 * @return tact state
+	 */
+	public Tact getTact(int processor, int tactNum) {
+		ProcessorLink[] links = processorLinks[processor];
+		DataTransmission[] transmissions = new DataTransmission[links.length];
+		int[] inOut = new int[links.length];
+
+		for (int i = 0; i < links.length; i++) {
+			transmissions[i] = links[i].getTransmission(tactNum);
+			inOut[i] = links[i].getInOutState(tactNum);
+		}
+		return new Tact(getSystemNode(processor), tactNum, processorTimelines[processor].get(tactNum),
+				transmissions, inOut);
+	}
+
+	/**
+	 * Searches for total execution time of the schedule in tacts.
+	 * @return total schedule time
+	 */
+	public int findTotalScheduleTime() {
+		int totalTime = 0;
+		for (int p = 0; p < lastGNodes.length; p++) {
+			if (getLastTaskEndTime(p) > totalTime) {
+				totalTime = getLastTaskEndTime(p);
+			}
+		}
+		return totalTime;
+	}
+}
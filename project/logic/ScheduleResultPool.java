@@ -0,0 +1,94 @@
+package project.logic;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of the released schedules. Scheduling runs take schedules from the pool instead of
+ * allocating new arrays, timelines and physical links, so the large number of runs creates
+ * only as many schedules as there are runs at the same time. Pool can be used by several
+ * threads at the same time.
+ * @author Yaroslav
+ *
+ */
+public final class ScheduleResultPool {
+
+	/**
+	 * Maximum number of the kept schedules by default.
+	 */
+	private static final int DEFAULT_CAPACITY = 1024;
+
+	/**
+	 * Released schedules.
+	 */
+	private final ConcurrentLinkedQueue<ScheduleResult> schedules;
+
+	/**
+	 * Number of the released schedules.
+	 */
+	private final AtomicInteger schedulesNumber;
+
+	/**
+	 * Maximum number of the kept schedules. Schedules released over the capacity are dropped.
+	 */
+	private final int capacity;
+
+	/**
+	 * Main constructor.
+	 */
+	public ScheduleResultPool() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates pool with the specified capacity.
+	 * @param capacity maximum number of the kept schedules
+	 */
+	public ScheduleResultPool(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity of the pool should not be negative: " + capacity);
+		}
+		this.capacity = capacity;
+		schedules = new ConcurrentLinkedQueue<>();
+		schedulesNumber = new AtomicInteger();
+	}
+
+	/**
+	 * Takes empty schedule from the pool or creates the new one if pool is empty.
+	 * @param snapshot snapshot of the task graph
+	 * @param gnodes graph nodes of the snapshot(by id)
+	 * @param routingTable routing tables of the computer system
+	 * @param context parameters of the run
+	 * @return empty schedule
+	 */
+	ScheduleResult acquire(GraphSnapshot snapshot, GNode[] gnodes, RoutingTable routingTable,
+			SchedulingContext context) {
+		ScheduleResult schedule = schedules.poll();
+		if (schedule == null) {
+			return new ScheduleResult(snapshot, gnodes, routingTable, context);
+		}
+		schedulesNumber.decrementAndGet();
+		schedule.reset(snapshot, gnodes, routingTable, context);
+		return schedule;
+	}
+
+	/**
+	 * Returns schedule to the pool. Schedule must not be used after it is released.
+	 * @param schedule schedule to release
+	 */
+	public void release(ScheduleResult schedule) {
+		if (schedulesNumber.incrementAndGet() <= capacity) {
+			schedules.offer(schedule);
+		} else {
+			schedulesNumber.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns the number of the schedules kept by the pool.
+	 * @return number of the released schedules
+	 */
+	public int size() {
+		return schedulesNumber.get();
+	}
+}
@@ -0,0 +1,285 @@
+package project.logic;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Times of the scheduling phases and counters of the scheduler operations. Statistics are
+ * collected only when they are passed to the scheduler with the scheduling context, otherwise
+ * the scheduler doesn't even read the clock.
+ * Each run records to its own statistics object, which is used by the single thread and is
+ * merged into the shared one at the end of the run, so recording methods are not synchronized,
+ * while merging, reading and resetting are.
+ * @author Yaroslav
+ *
+ */
+public final class SchedulerStatistics implements SchedulerStatisticsMXBean {
+
+	/**
+	 * Generation of the task queue.
+	 */
+	public static final int QUEUE_BUILDING = 0;
+
+	/**
+	 * Taking of the next ready graph node and releasing of its successors.
+	 */
+	public static final int NODE_SELECTION = 1;
+
+	/**
+	 * Choice of the processor for the graph node.
+	 */
+	public static final int PROCESSOR_SELECTION = 2;
+
+	/**
+	 * Building of the routing tables and lookup of the shortest paths.
+	 */
+	public static final int ROUTING = 3;
+
+	/**
+	 * Search for the free windows of the physical links and processors.
+	 */
+	public static final int WINDOW_SEARCH = 4;
+
+	/**
+	 * Writing of the graph nodes and transmissions to the timelines.
+	 */
+	public static final int TACT_WRITES = 5;
+
+	/**
+	 * Names of the phases.
+	 */
+	public static final String[] PHASE_NAMES = {"queue building", "node selection", "processor selection",
+		"routing", "window search", "tact writes"};
+
+	/**
+	 * Number of the scheduled task graphs.
+	 */
+	public static final int RUNS = 0;
+
+	/**
+	 * Number of the assigned graph nodes.
+	 */
+	public static final int SCHEDULED_NODES = 1;
+
+	/**
+	 * Number of the breadth-first searches of the routing tables.
+	 */
+	public static final int BFS_CALLS = 2;
+
+	/**
+	 * Number of the shortest paths taken from the routing tables.
+	 */
+	public static final int PATH_LOOKUPS = 3;
+
+	/**
+	 * Number of the checks and searches of the free windows.
+	 */
+	public static final int WINDOW_SEARCHES = 4;
+
+	/**
+	 * Number of the created data transmissions.
+	 */
+	public static final int TRANSMISSIONS = 5;
+
+	/**
+	 * Names of the counters.
+	 */
+	public static final String[] COUNTER_NAMES = {"runs", "scheduled nodes", "bfs calls", "path lookups",
+		"window searches", "transmissions"};
+
+	/**
+	 * Times of the phases in nanoseconds.
+	 */
+	private final long[] phaseTimes;
+
+	/**
+	 * Values of the counters.
+	 */
+	private final long[] counters;
+
+	/**
+	 * Main constructor. Creates statistics with zero values.
+	 */
+	public SchedulerStatistics() {
+		phaseTimes = new long[PHASE_NAMES.length];
+		counters = new long[COUNTER_NAMES.length];
+	}
+
+	/**
+	 * Returns the start time of the phase.
+	 * @param statistics statistics of the run or null if they are not collected
+	 * @return current time in nanoseconds or 0 if statistics are not collected
+	 */
+	public static long start(SchedulerStatistics statistics) {
+		if (statistics == null) {
+			return 0;
+		}
+		return System.nanoTime();
+	}
+
+	/**
+	 * Adds the time passed since the start of the phase.
+	 * @param phase phase code
+	 * @param startTime start time returned by the start method
+	 */
+	public void stop(int phase, long startTime) {
+		phaseTimes[phase] += System.nanoTime() - startTime;
+	}
+
+	/**
+	 * Increases the counter by one.
+	 * @param counter counter code
+	 */
+	public void increment(int counter) {
+		counters[counter]++;
+	}
+
+	/**
+	 * Increases the counter.
+	 * @param counter counter code
+	 * @param value value to add
+	 */
+	public void add(int counter, long value) {
+		counters[counter] += value;
+	}
+
+	/**
+	 * Adds times and counters of the other statistics to these ones.
+	 * @param statistics statistics to add
+	 */
+	public synchronized void addAll(SchedulerStatistics statistics) {
+		for (int i = 0; i < phaseTimes.length; i++) {
+			phaseTimes[i] += statistics.phaseTimes[i];
+		}
+		for (int i = 0; i < counters.length; i++) {
+			counters[i] += statistics.counters[i];
+		}
+	}
+
+	/**
+	 * Returns the time of the phase.
+	 * @param phase phase code
+	 * @return time in nanoseconds
+	 */
+	public synchronized long getPhaseTime(int phase) {
+		return phaseTimes[phase];
+	}
+
+	/**
+	 * Returns the value of the counter.
+	 * @param counter counter code
+	 * @return counter value
+	 */
+	public synchronized long getCounter(int counter) {
+		return counters[counter];
+	}
+
+	@Override
+	public synchronized void reset() {
+		for (int i = 0; i < phaseTimes.length; i++) {
+			phaseTimes[i] = 0;
+		}
+		for (int i = 0; i < counters.length; i++) {
+			counters[i] = 0;
+		}
+	}
+
+	/**
+	 * Registers the statistics in the platform MBean server, so they can be watched with
+	 * JConsole or other JMX client during the long modeling.
+	 * @param name name of the statistics
+	 * @throws JMException if statistics can't be registered
+	 */
+	public void register(String name) throws JMException {
+		ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+				new ObjectName("project.logic:type=SchedulerStatistics,name=" + ObjectName.quote(name)));
+	}
+
+	/**
+	 * Writes phase times in milliseconds and counters to the "statistics" table.
+	 * @param sink receiver of the table
+	 * @throws IOException if table can't be written
+	 */
+	public synchronized void writeTo(ResultSink sink) throws IOException {
+		String[] labels = new String[2];
+		double[] values = new double[1];
+		sink.startTable("statistics", new String[] {"name", "unit"}, new String[] {"value"});
+
+		labels[1] = "ms";
+		for (int i = 0; i < phaseTimes.length; i++) {
+			labels[0] = PHASE_NAMES[i];
+			values[0] = phaseTimes[i] / 1e6;
+			sink.writeRow(labels, values);
+		}
+		labels[1] = "count";
+		for (int i = 0; i < counters.length; i++) {
+			labels[0] = COUNTER_NAMES[i];
+			values[0] = counters[i];
+			sink.writeRow(labels, values);
+		}
+		sink.endTable();
+	}
+
+	@Override
+	public long getQueueBuildingTime() {
+		return getPhaseTime(QUEUE_BUILDING);
+	}
+
+	@Override
+	public long getNodeSelectionTime() {
+		return getPhaseTime(NODE_SELECTION);
+	}
+
+	@Override
+	public long getProcessorSelectionTime() {
+		return getPhaseTime(PROCESSOR_SELECTION);
+	}
+
+	@Override
+	public long getRoutingTime() {
+		return getPhaseTime(ROUTING);
+	}
+
+	@Override
+	public long getWindowSearchTime() {
+		return getPhaseTime(WINDOW_SEARCH);
+	}
+
+	@Override
+	public long getTactWritesTime() {
+		return getPhaseTime(TACT_WRITES);
+	}
+
+	@Override
+	public long getRuns() {
+		return getCounter(RUNS);
+	}
+
+	@Override
+	public long getScheduledNodes() {
+		return getCounter(SCHEDULED_NODES);
+	}
+
+	@Override
+	public long getBfsCalls() {
+		return getCounter(BFS_CALLS);
+	}
+
+	@Override
+	public long getPathLookups() {
+		return getCounter(PATH_LOOKUPS);
+	}
+
+	@Override
+	public long getWindowSearches() {
+		return getCounter(WINDOW_SEARCHES);
+	}
+
+	@Override
+	public long getTransmissions() {
+		return getCounter(TRANSMISSIONS);
+	}
+}
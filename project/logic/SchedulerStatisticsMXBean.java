@@ -0,0 +1,87 @@
+package project.logic;
+
+/**
+ * Management interface of the scheduler statistics. Times are in nanoseconds and summed over
+ * all the recorded runs.
+ * @author Yaroslav
+ *
+ */
+public interface SchedulerStatisticsMXBean {
+
+	/**
+	 * Accessor to the queue building time.
+	 * @return time of the queue generation
+	 */
+	long getQueueBuildingTime();
+
+	/**
+	 * Accessor to the node selection time.
+	 * @return time of taking the ready graph nodes and releasing their successors
+	 */
+	long getNodeSelectionTime();
+
+	/**
+	 * Accessor to the processor selection time.
+	 * @return time of choosing the processors for the graph nodes
+	 */
+	long getProcessorSelectionTime();
+
+	/**
+	 * Accessor to the routing time.
+	 * @return time of building the routing tables and looking up the shortest paths
+	 */
+	long getRoutingTime();
+
+	/**
+	 * Accessor to the window search time.
+	 * @return time of searching for the free windows of the links and processors
+	 */
+	long getWindowSearchTime();
+
+	/**
+	 * Accessor to the tact writes time.
+	 * @return time of writing the graph nodes and transmissions to the timelines
+	 */
+	long getTactWritesTime();
+
+	/**
+	 * Accessor to the runs counter.
+	 * @return number of the scheduled task graphs
+	 */
+	long getRuns();
+
+	/**
+	 * Accessor to the scheduled nodes counter.
+	 * @return number of the assigned graph nodes
+	 */
+	long getScheduledNodes();
+
+	/**
+	 * Accessor to the BFS calls counter.
+	 * @return number of the breadth-first searches of the routing tables
+	 */
+	long getBfsCalls();
+
+	/**
+	 * Accessor to the path lookups counter.
+	 * @return number of the shortest paths taken from the routing tables
+	 */
+	long getPathLookups();
+
+	/**
+	 * Accessor to the window searches counter.
+	 * @return number of the checks and searches of the free windows
+	 */
+	long getWindowSearches();
+
+	/**
+	 * Accessor to the transmissions counter.
+	 * @return number of the created data transmissions
+	 */
+	long getTransmissions();
+
+	/**
+	 * Sets all the times and counters to zero.
+	 */
+	void reset();
+}
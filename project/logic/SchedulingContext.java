@@ -0,0 +1,140 @@
+package project.logic;
+
+/**
+ * Parameters of the single scheduling run. They are passed to the computer system on each
+ * loading of the task graph instead of being stored in the static fields, so several
+ * computer systems can schedule task graphs at the same time.
+ * @author Yaroslav
+ *
+ */
+public final class SchedulingContext {
+
+	/**
+	 * Code of the algorithm(1, 5 or 6).
+	 */
+	private final int algorythmType;
+
+	/**
+	 * Number of the physical links of each processor.
+	 */
+	private final int linksNumber;
+
+	/**
+	 * This flag specifies whether we use duplex physical links or not.
+	 */
+	private final boolean duplex;
+
+	/**
+	 * This flag specifies whether algorithm 5 chooses the processor with the earliest finish
+	 * time of the graph node instead of the shortest paths to its ancestry.
+	 */
+	private final boolean earliestFinish;
+
+	/**
+	 * Statistics of the runs or null if they are not collected.
+	 */
+	private final SchedulerStatistics statistics;
+
+	/**
+	 * Main constructor. Statistics are not collected.
+	 * @param algorythmType algorithm code
+	 * @param linksNumber number of the physical links
+	 * @param duplex duplex/simplex flag
+	 */
+	public SchedulingContext(int algorythmType, int linksNumber, boolean duplex) {
+		this(algorythmType, linksNumber, duplex, null);
+	}
+
+	/**
+	 * Constructor with the statistics. Each run with this context adds its phase times and
+	 * counters to the statistics, runs may be done from the different threads.
+	 * @param algorythmType algorithm code
+	 * @param linksNumber number of the physical links
+	 * @param duplex duplex/simplex flag
+	 * @param statistics statistics of the runs or null if they are not collected
+	 */
+	public SchedulingContext(int algorythmType, int linksNumber, boolean duplex, SchedulerStatistics statistics) {
+		this(algorythmType, linksNumber, duplex, false, statistics);
+	}
+
+	/**
+	 * Constructor with all the parameters.
+	 * @param algorythmType algorithm code
+	 * @param linksNumber number of the physical links
+	 * @param duplex duplex/simplex flag
+	 * @param earliestFinish flag of the earliest finish time processor choice of algorithm 5
+	 * @param statistics statistics of the runs or null if they are not collected
+	 */
+	public SchedulingContext(int algorythmType, int linksNumber, boolean duplex, boolean earliestFinish, 
+			SchedulerStatistics statistics) {
+		checkAlgorythmType(algorythmType);
+		checkLinksNumber(linksNumber);
+		this.algorythmType = algorythmType;
+		this.linksNumber = linksNumber;
+		this.duplex = duplex;
+		this.earliestFinish = earliestFinish;
+		this.statistics = statistics;
+	}
+
+	/**
+	 * Checks the code of the algorithm.
+	 * @param algorythmType algorithm code
+	 * @throws IllegalArgumentException if there is no algorithm with this code
+	 */
+	public static void checkAlgorythmType(int algorythmType) {
+		if ((algorythmType != 1) && (algorythmType != 5) && (algorythmType != 6)) {
+			throw new IllegalArgumentException("Unknown algorithm: " + algorythmType);
+		}
+	}
+
+	/**
+	 * Checks the number of the physical links.
+	 * @param linksNumber number of the physical links
+	 * @throws IllegalArgumentException if number is not positive
+	 */
+	public static void checkLinksNumber(int linksNumber) {
+		if (linksNumber < 1) {
+			throw new IllegalArgumentException("Number of the physical links should be positive: " + linksNumber);
+		}
+	}
+
+	/**
+	 * Accessor to the algorithm type field.
+	 * @return algorithm code
+	 */
+	public int getAlgorythmType() {
+		return algorythmType;
+	}
+
+	/**
+	 * Accessor to the links number field.
+	 * @return number of the physical links
+	 */
+	public int getLinksNumber() {
+		return linksNumber;
+	}
+
+	/**
+	 * Accessor to the duplex field.
+	 * @return true if physical links are duplex
+	 */
+	public boolean isDuplex() {
+		return duplex;
+	}
+
+	/**
+	 * Accessor to the earliest finish field.
+	 * @return true if algorithm 5 chooses the processor with the earliest finish time
+	 */
+	public boolean isEarliestFinish() {
+		return earliestFinish;
+	}
+
+	/**
+	 * Accessor to the statistics field.
+	 * @return statistics of the runs or null if they are not collected
+	 */
+	public SchedulerStatistics getStatistics() {
+		return statistics;
+	}
+}
@@ -0,0 +1,31 @@
+package project.logic;
+
+/**
+ * Observer of the modeling on the large amount of random task graphs. Methods are called
+ * from the modeling threads, so implementations should be thread-safe and should pass the
+ * results to the user interface thread themselves.
+ * @author Yaroslav
+ *
+ */
+public interface SweepListener {
+
+	/**
+	 * Is called after each calculated cell of the modeling matrices.
+	 * @param completedCells number of the calculated cells
+	 * @param cellsNumber total number of the cells
+	 */
+	void cellCompleted(int completedCells, int cellsNumber);
+
+	/**
+	 * Is called when all the cells of the row are calculated. Rows can be completed in any order.
+	 * @param row row number(correlation number)
+	 * @param result matrices of the modeling, values of the completed row are final
+	 */
+	void rowCompleted(int row, SweepResult result);
+
+	/**
+	 * Checks whether modeling should be stopped. It is checked before each random graph.
+	 * @return true if modeling is cancelled
+	 */
+	boolean isCancelled();
+}
@@ -0,0 +1,139 @@
+package project.logic;
+
+import java.io.IOException;
+
+/**
+ * Result of the modeling on the large amount of random task graphs. Each matrix row
+ * corresponds to the graph correlation, each column corresponds to the pair of the graph
+ * size and the algorithm.
+ * Output parameters:
+ * 1. Kp  - acceleration factor.
+ * 2. Ke  - effectiveness ratio.
+ * 3. Kea - effectiveness ratio of algorithm.
+ * @author Yaroslav
+ *
+ */
+public final class SweepResult {
+
+	/**
+	 * Correlations of the graphs of each row.
+	 */
+	private final double[] correlations;
+
+	/**
+	 * Names of the columns(graph size and algorithm).
+	 */
+	private final String[] columnNames;
+
+	/**
+	 * Acceleration factor matrix.
+	 */
+	private final double[][] kp;
+
+	/**
+	 * Effectiveness ratio matrix.
+	 */
+	private final double[][] ke;
+
+	/**
+	 * Effectiveness ratio of algorithm matrix.
+	 */
+	private final double[][] kea;
+
+	/**
+	 * Main constructor. Creates matrices filled with zeros.
+	 * @param correlations correlations of the graphs of each row
+	 * @param columnNames names of the columns
+	 */
+	public SweepResult(double[] correlations, String[] columnNames) {
+		this.correlations = correlations;
+		this.columnNames = columnNames;
+		kp = new double[correlations.length][columnNames.length];
+		ke = new double[correlations.length][columnNames.length];
+		kea = new double[correlations.length][columnNames.length];
+	}
+
+	/**
+	 * Sets the values of the single cell of all the matrices.
+	 * @param row row number
+	 * @param column column number
+	 * @param kpValue acceleration factor
+	 * @param keValue effectiveness ratio
+	 * @param keaValue effectiveness ratio of algorithm
+	 */
+	void setCell(int row, int column, double kpValue, double keValue, double keaValue) {
+		kp[row][column] = kpValue;
+		ke[row][column] = keValue;
+		kea[row][column] = keaValue;
+	}
+
+	/**
+	 * Writes Kp, Ke and Kea matrices as the tables with the same names. Each row starts with 
+	 * the correlation.
+	 * @param sink receiver of the results
+	 * @throws IOException if tables can't be written
+	 */
+	public void writeTo(ResultSink sink) throws IOException {
+		writeMatrix(sink, "Kp", kp);
+		writeMatrix(sink, "Ke", ke);
+		writeMatrix(sink, "Kea", kea);
+	}
+	
+	/**
+	 * Writes the single matrix as the table.
+	 * @param sink receiver of the results
+	 * @param name name of the table
+	 * @param matrix matrix to write
+	 * @throws IOException if table can't be written
+	 */
+	private void writeMatrix(ResultSink sink, String name, double[][] matrix) throws IOException {
+		String[] labels = new String[1];
+		
+		sink.startTable(name, new String[] {"correlation"}, columnNames);
+		for (int i = 0; i < matrix.length; i++) {
+			labels[0] = Double.toString(correlations[i]);
+			sink.writeRow(labels, matrix[i]);
+		}
+		sink.endTable();
+	}
+	
+	/**
+	 * Accessor to the correlations field.
+	 * @return correlations of the graphs of each row
+	 */
+	public double[] getCorrelations() {
+		return correlations;
+	}
+
+	/**
+	 * Accessor to the column names field.
+	 * @return names of the columns
+	 */
+	public String[] getColumnNames() {
+		return columnNames;
+	}
+
+	/**
+	 * Accessor to the acceleration factor matrix.
+	 * @return Kp matrix
+	 */
+	public double[][] getKp() {
+		return kp;
+	}
+
+	/**
+	 * Accessor to the effectiveness ratio matrix.
+	 * @return Ke matrix
+	 */
+	public double[][] getKe() {
+		return ke;
+	}
+
+	/**
+	 * Accessor to the effectiveness ratio of algorithm matrix.
+	 * @return Kea matrix
+	 */
+	public double[][] getKea() {
+		return kea;
+	}
+}
@@ -1,12 +1,5 @@
 package project.logic;
 
-import java.awt.Color;
-import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.RenderingHints;
-import java.awt.geom.Line2D;
-import java.awt.geom.Point2D;
-import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
 
 /**
@@ -16,6 +9,11 @@ import java.io.Serializable;
  */
 public class SystemLink implements Serializable {
 	
+	/**
+	 * Version of the serialized form, it is kept equal to the version of the first release.
+	 */
+	private static final long serialVersionUID = 8434094966873008740L;
+	
 	/**
 	 * First system node.
 	 */
@@ -26,11 +24,6 @@ public class SystemLink implements Serializable {
 	 */
 	private SystemNode secondNode;
 	
-	/**
-	 * Line, which represents this connection graphically on the workspace.
-	 */
-	private Line2D line;
-	 
 	/**
 	 * Main constructor.
 	 * @param firstNode first node
@@ -74,28 +67,4 @@ public class SystemLink implements Serializable {
 	public void setSecondNode(SystemNode secondNode) {
 		this.secondNode = secondNode;
 	}
-	
-	/**
-	 * Checks whether system link contains specified point or not.
-	 * @param p point to check
-	 * @return true if contains
-	 */
-	public boolean contains(Point2D p) {		
-		if (line.intersects(new Rectangle2D.Double(p.getX() - 5, p.getY() - 5, 10, 10))) return true;		
-		return false;
-	}
-	
-	/**
-	 * Paints system link on the workspace.  
-	 * @param g paints graphics
-	 */
-	public void paint(Graphics g) {		
-		Graphics2D g2 = (Graphics2D)g;
-		
-		g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-		g2.setColor(Color.BLACK);
-		line = new Line2D.Double(firstNode.cx, firstNode.cy, secondNode.cx, secondNode.cy);
-		g2.draw(line);
-	}
 }
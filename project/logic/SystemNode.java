@@ -1,8 +1,5 @@
 package project.logic;
 
-import java.awt.*;
-import java.awt.font.FontRenderContext;
-import java.awt.geom.*;
 import java.io.Serializable;
 import java.util.ArrayList;
 
@@ -14,9 +11,9 @@ import java.util.ArrayList;
 public class SystemNode implements Serializable {	 
 	
 	/**
-	 * This static field is used to define IDs of the created system nodes.
+	 * Version of the serialized form, it is kept equal to the version of the first release.
 	 */
-	public static int nextIndex = 0;
+	private static final long serialVersionUID = -5078879372760321736L;
 	
 	/**
 	 * Unique system node index.
@@ -28,41 +25,6 @@ public class SystemNode implements Serializable {
 	 */
 	private String indexStr;
 	
-	/**
-	 * System node priority. The greater nodes coherence, the more priority it has.
-	 */
-	private int priority;
-	
-	/**
-	 * A list of scheduled graph nodes.
-	 */
-	private ArrayList<GNode> scheduledNodes;
-	
-	/**
-	 * A list of system node physical links.
-	 */
-	private ArrayList<ProcessorLink> processorLinks;
-	
-	/**
-	 * A list of tacts for this node.
-	 */
-	private ArrayList<Tact> tacts;
-	
-	/**
-	 * Total scheduling time(i.e. last scheduled task/transmission).
-	 */
-	private int totalTime;
-	
-	/**
-	 * Color to display on the workspace
-	 */
-	private Color color;
-	
-	/**
-	 * Basic rectangle for graphical representation.
-	 */
-	private Rectangle2D systemNode;
-	
 	/**
 	 * A pointer to prev system node. It is used when we generate reverse path.
 	 */
@@ -89,76 +51,34 @@ public class SystemNode implements Serializable {
 	public double cy;
 	
 	/**
-	 * This is the size of system node rectangle side.
-	 */
-	public static double size;
-	 
-	/**
-	 * Main constructor.
+	 * Main constructor. Physical links and schedule of the node are stored in the schedule result of each run.
+	 * @param index unique index
 	 * @param cx center X coordinate
 	 * @param cy center Y coordinate
 	 */
-	public SystemNode(double cx, double cy) {		
-		index = nextIndex;
-		nextIndex++;
+	public SystemNode(int index, double cx, double cy) {		
+		this.index = index;
 		indexStr = "N" + String.valueOf(index);
-		scheduledNodes = new ArrayList<>();
-		processorLinks = new ArrayList<>();		
-		for (int i = 0; i < ComputerSystem.processorLinkNumber; i++) {
-			ProcessorLink pLink = new ProcessorLink(i);
-			processorLinks.add(pLink);
-		}
-		tacts = new ArrayList<>();
-		for (int i = 0; i < 5000; i++) {
-			Tact tact = new Tact(this);
-			tact.setTactNum(i);
-			tacts.add(tact);
-		}		
-		color = Color.LIGHT_GRAY;
 		neighbours = new ArrayList<>();
 		this.cx = cx;
 		this.cy = cy;
 	}	
 	
 	/**
-	 * Accessor to the priority field.
-	 * @return priority
+	 * Copy constructor. Neighbours are not copied, they are connected by the computer system.
+	 * @param sysNode system node to copy
 	 */
-	public int getPriority() {
-		return priority;
+	SystemNode(SystemNode sysNode) {
+		this(sysNode.index, sysNode.cx, sysNode.cy);
 	}
 	
 	/**
-	 * Accessor to the scheduled nodes field.
-	 * @return shecduled nodes
-	 */
-	public ArrayList<GNode> getScheduledNodes() {		
-		return scheduledNodes;
-	}	
-	
-	/**
-	 * Accessor to the total time field.
-	 * @return total scheduled time
-	 */
-	public int getTotalTime() {
-		return totalTime;
-	}		
-	
-	/**
-	 * Adds specified graph node to the scheduled nodes list.
-	 * @param g graph node
+	 * Returns system node priority. The greater nodes coherence, the more priority it has.
+	 * @return priority
 	 */
-	public void setTaskForExecute(GNode g) {		
-		scheduledNodes.add(g);
+	public int getPriority() {
+		return neighbours.size();
 	}
-	 
-	/**
-	 * Sets a value of the system node color.
-	 * @param color node color
-	 */
-	public void setColor(Color color) {		
-		this.color = color;
-	}	
 	
 	/**
 	 * Accessor to the neighbors field.
@@ -241,184 +161,5 @@ public class SystemNode implements Serializable {
 	 */
 	public void setPrev(SystemNode prev) {
 		this.prev = prev;
-	}	
-	
-	/**
-	 * Accessor to the physical links field.
-	 * @return a list of the physical links
-	 */
-	public ArrayList<ProcessorLink> getProcessorLinks() {
-		return processorLinks;
-	}
-	
-	/**
-	 * Accessor to the tacts field.	
-	 * @return a list of tacts
-	 */
-	public ArrayList<Tact> getTacts() {
-		return tacts;
-	}
-	
-	/**
-	 * Checks whether system node rectangle contains specified point or not.
-	 * @param p point to check
-	 * @return true if contains
-	 */
-	public boolean contains(Point2D p) {		 
-		if (systemNode.contains(p)) return true;
-		return false;
-	}	
-	
-	/**
-	 * Increases total time with the specified value.
-	 * @param value
-	 */
-	public void increaseTotalTime(int value) {
-		totalTime += value;
-	}
-	
-	/**
-	 * Assigns graph node to this system node.
-	 * @param gnode graph node
-	 */
-	public void assignGNode(GNode gnode) {
-		scheduledNodes.add(gnode);
-	}
-	
-	/**
-	 * Calculates priority of the system node
-	 */
-	public void calculatePriority() {
-		priority = neighbours.size();
-	}
-	
-	/**
-	 * Returns last tact of the last scheduled task.
-	 * @return last tact
-	 */
-	public int getLastTaskEndTime() {
-		if (scheduledNodes.isEmpty()) {
-			return 0;
-		} else {
-			return scheduledNodes.get(scheduledNodes.size() - 1).getEndTime();
-		}				
-	}
-	
-	/**
-	 * Assigns graph node to this system node.
-	 * @param gnode grpah node
-	 */
-	public void addScheduledGNode(GNode gnode) {
-		scheduledNodes.add(gnode);
-	}
-	
-	/**
-	 * Resets a list of tacts.
-	 */
-	public void resetTacts() {
-		tacts.clear();
-		for (int i = 0; i < 5000; i++) {
-			Tact tact = new Tact(this);
-			tact.setTactNum(i);
-			tacts.add(tact);
-		}		
-	}
-	
-	/**
-	 * Checks the state of the link on the specified period of time.
-	 * @param startTime first tact
-	 * @param endTime last tact
-	 * @param linkNum link number
-	 * @return true if at least one tact on the specified period is busy
-	 */
-	public boolean linkTimeIntervalIsBusy(int startTime, int endTime, int linkNum) {
-		boolean busy = false;
-		for (int i = startTime; i < endTime; i++) {
-			Tact tact = tacts.get(i);
-			if (tact.processorLinkIsBusy(linkNum) == true) {
-				busy = true;
-			}
-		}
-		return busy;
-	}
-	
-	/**
-	 * Almost the same as previous method, but this one works for duplex links and has
-	 * additional parameter.
-	 * @param startTime first tact
-	 * @param endTime last tact
-	 * @param linkNum link number
-	 * @param inOutState 1 for IN state, 0 for OUT state
-	 * @return true if at least one tact on the specified period is busy
-	 */
-	public boolean linkTimeIntervalIsBusy(int startTime, int endTime, int linkNum, int inOutState) {
-		boolean busy = false;
-		for (int i = startTime; i < endTime; i++) {
-			Tact tact = tacts.get(i);
-			if ((tact.processorLinkIsBusy(linkNum) == true) && (tact.getInOutState(linkNum) == inOutState)) {
-				busy = true;
-			}
-		}
-		return busy;
-	}
-	
-	/**
-	 * Checks the state of the time interval on the specified period of time. 
-	 * @param startTime first tact
-	 * @param endTime last tact
-	 * @return true if at least one tact on the specified period is busy
-	 */
-	public boolean procTimeIntervalIsBusy(int startTime, int endTime) {
-		boolean busy = false;
-		for (int i = startTime; i < endTime; i++) {
-			if (tacts.get(i).processorIsBusy()) {
-				busy = true;
-			}
-		}
-		return busy;
-	}	
-	
-	/**
-	 * Adds physical link to the system node.
-	 * @param pLink physical link
-	 */
-	public void addProcessorLink(ProcessorLink pLink) {
-		processorLinks.add(pLink);
-	}
-	
-	/**
-	 * Paints the graphical representation of the system node.
-	 * @param g paints graphics
-	 */
-	public void paint(Graphics g) {		
-		Graphics2D g2 = (Graphics2D)g;
-				
-		BasicStroke pen = new BasicStroke(2); 
-	    g2.setStroke(pen);
-		
-	    g2.setColor(color);
-		systemNode = new Rectangle2D.Double(cx - size / 2, cy - size / 2, size, size);
-		g2.fill(systemNode);
-		g2.setColor(Color.BLACK);
-		
-		Rectangle2D contour = new Rectangle2D.Double(cx - size / 2, cy - size / 2, size, size);
-		g2.draw(contour);
-		
-		g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-				
-		Font f = new Font("SansSerif", Font.PLAIN, 14);
-		f = f.deriveFont(0.3F * (float)size);
-		g2.setFont(f);
-		FontRenderContext context = g2.getFontRenderContext();
-		Rectangle2D bounds = f.getStringBounds(indexStr, context);
-		
-		double height = bounds.getHeight();
-		double width = bounds.getWidth();
-		
-		double ascent = -bounds.getY();
-		double x = cx - size / 2 + (size - width) / 2;		
-		double y = cy - size / 2 + (size - height) / 2 + ascent;
-		
-		g2.drawString(indexStr, (int)x, (int)y);		
 	}
 }
@@ -1,15 +1,20 @@
 package project.logic;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 
 /**
- * Class Tact contains information about single tact in system node.
+ * Class Tact contains information about single tact in system node. It is created on demand
+ * from the timelines of the system node and its physical links.
  * @author Yaroslav
  *
  */
 public class Tact implements Serializable {
 	
+	/**
+	 * Version of the serialized form, it is kept equal to the version of the first release.
+	 */
+	private static final long serialVersionUID = 3828346740334544748L;
+	
 	/**
 	 * Tact number.
 	 */
@@ -31,55 +36,27 @@ public class Tact implements Serializable {
 	private DataTransmission[] scheduledTransmissions;
 	
 	/**
-	 * Array of links state flags.
+	 * This value specifies the direction of data transmission for each physical link.
 	 */
-	private boolean[] procLinkIsBusy;
-	
-	/**
-	 * This value specifies the direction of data transmission. It is used for duplex links only.
-	 */
-	private int[] inOut; // 1 - in; 0 - out;
+	private int[] inOut; // 1 - in; 0 - out; -1 - link is free
 	
 	/**
 	 * Main constructor.
 	 * @param sysNode system node
-	 */
-	public Tact(SystemNode sysNode) {
-		this.sysNode = sysNode;
-		int linksNumber = sysNode.getProcessorLinks().size();
-		scheduledTransmissions = new DataTransmission[linksNumber];
-		procLinkIsBusy = new boolean[linksNumber];
-		inOut = new int[linksNumber];
-		for (int i = 0; i < linksNumber; i++) {
-			inOut[i] = -1;
-		}
-	}	
-	
-	/**
-	 * Additional constructor.
-	 * @param sysNode system node
+	 * @param tactNum tact number
 	 * @param scheduledGNode scheduled graph node
-	 * @param scheduledTransmissions scheduled transmissions
+	 * @param scheduledTransmissions scheduled transmissions for each physical link
+	 * @param inOut direction of data transmission for each physical link
 	 */
-	public Tact(SystemNode sysNode, GNode scheduledGNode,
-			DataTransmission[] scheduledTransmissions) {		
+	public Tact(SystemNode sysNode, int tactNum, GNode scheduledGNode,
+			DataTransmission[] scheduledTransmissions, int[] inOut) {
 		this.sysNode = sysNode;
+		this.tactNum = tactNum;
 		this.scheduledGNode = scheduledGNode;
 		this.scheduledTransmissions = scheduledTransmissions;
+		this.inOut = inOut;
 	}
 	
-	/**
-	 * Resets this tact, drops all the flags to default values.
-	 */
-	public void reset() {
-		scheduledGNode = null;
-		for (int i = 0; i < ComputerSystem.processorLinkNumber; i++) {
-			scheduledTransmissions[i] = null;
-			procLinkIsBusy[i] = false;
-			inOut[i] = -1;
-		}
-	}	
-	
 	/**
 	 * Checks whether system node is busy in this tact or not.
 	 * @return true if busy
@@ -93,13 +70,13 @@ public class Tact implements Serializable {
 	
 	/**
 	 * Checks the state of specified physical link.
-	 * @param linkNum
-	 * @return
+	 * @param linkNum link number
+	 * @return true if link is busy
 	 */
-	public boolean processorLinkIsBusy(int linkNum) {		
-		if (procLinkIsBusy[linkNum] == true) {
+	public boolean processorLinkIsBusy(int linkNum) {
+		if (inOut[linkNum] != -1) {
 			return true;
-		} 
+		}
 		return false;
 	}
 	
@@ -111,14 +88,6 @@ public class Tact implements Serializable {
 		return tactNum;
 	}
 	
-	/**
-	 * Sets a value of the tact number field.
-	 * @param tactNum tact number
-	 */
-	public void setTactNum(int tactNum) {
-		this.tactNum = tactNum;
-	}
-	
 	/**
 	 * Accessor to the system node field.
 	 * @return system node
@@ -127,14 +96,6 @@ public class Tact implements Serializable {
 		return sysNode;
 	}
 	
-	/**
-	 * Sets a value of the system node field.
-	 * @param sysNode system node
-	 */
-	public void setSysNode(SystemNode sysNode) {
-		this.sysNode = sysNode;
-	}
-	
 	/**
 	 * Accessor to the scheduled graph node field.
 	 * @return scheduled gnode
@@ -143,14 +104,6 @@ public class Tact implements Serializable {
 		return scheduledGNode;
 	}
 	
-	/**
-	 * Sets a value of the scheduled graph node field.
-	 * @param scheduledGNode scheduled graph node
-	 */
-	public void setScheduledGNode(GNode scheduledGNode) {
-		this.scheduledGNode = scheduledGNode;
-	}
-	
 	/**
 	 * Accessor to the scheduled transmissions field.
 	 * @return scheduled transmissions
@@ -159,40 +112,10 @@ public class Tact implements Serializable {
 		return scheduledTransmissions;
 	}
 	
-	/**
-	 * Sets a value of the scheduled transmissions field.
-	 * @param scheduledTransmissions scheduled transmissions array
-	 */
-	public void setScheduledTransmissions(DataTransmission[] scheduledTransmissions) {
-		this.scheduledTransmissions = scheduledTransmissions;
-	}
-
-	/**
-	 * Sets schedule transmission to the specified physical link
-	 * @param scheduledTransmission scheduled transmission
-	 * @param linkNum number of the link for schedule
-	 */
-	public void setScheduledTransmission(DataTransmission scheduledTransmission, int linkNum) {
-		scheduledTransmissions[linkNum] = scheduledTransmission;
-		procLinkIsBusy[linkNum] = true;
-		inOut[linkNum] = 0;
-	}
-
-	/**
-	 * Sets busy flag and inOut flag to the specified link.
-	 * @param procLinkIsBusy busy flag
-	 * @param linkNum link number
-	 * @param inOutState inOut flag
-	 */
-	public void setProcLinkBusyFlag(boolean procLinkIsBusy, int linkNum, int inOutState) {
-		this.procLinkIsBusy[linkNum] = procLinkIsBusy;
-		inOut[linkNum] = inOutState;
-	}
-	
 	/**
 	 * Accessor to the inOut state of the specified physical link.
 	 * @param linkNum number of link
-	 * @return in out state (0 or 1)
+	 * @return in out state (0 or 1, -1 if link is free)
 	 */
 	public int getInOutState(int linkNum) {
 		return inOut[linkNum];
@@ -0,0 +1,448 @@
+package project.logic;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Occupancy of the processor or physical link in time. It is stored as a sorted set of
+ * disjoint intervals [start, end) of tacts with the values assigned to them, so there is no
+ * fixed time horizon and memory depends only on the number of scheduled items.
+ * New interval overwrites the overlapped parts of the existing ones, neighbouring intervals
+ * with equal values are merged.
+ * Free windows are searched in the tree of the maximum gaps between the intervals, so the
+ * first free window of the specified length is found in O(log n). Each change updates the
+ * leaves of the changed gaps and their ancestors: O(log n) if the following intervals keep
+ * their numbers, otherwise the leaves of the shifted intervals are updated together with
+ * their arrays. The tree is rebuilt only when it has no free leaves or after clearing and
+ * deserialization.
+ * @author Yaroslav
+ *
+ * @param <V> type of the values assigned to the intervals
+ */
+public class Timeline<V> implements Serializable {
+
+	/**
+	 * Version of the serialized form, it is kept equal to the version of the first release.
+	 */
+	private static final long serialVersionUID = 8381363246417467599L;
+
+	/**
+	 * Initial capacity of the arrays.
+	 */
+	private static final int DEFAULT_CAPACITY = 8;
+
+	/**
+	 * Start tacts of the intervals.
+	 */
+	private int[] starts;
+
+	/**
+	 * End tacts(exclusive) of the intervals.
+	 */
+	private int[] ends;
+
+	/**
+	 * Values of the intervals.
+	 */
+	private Object[] values;
+
+	/**
+	 * Number of the intervals.
+	 */
+	private int size;
+
+	/**
+	 * Tree of the maximum gaps. Leaf i contains the gap between interval i and the next one,
+	 * the gap after the last interval is unlimited.
+	 */
+	private transient int[] gapTree;
+
+	/**
+	 * Number of the leaves of the gap tree(power of two).
+	 */
+	private transient int gapTreeLeaves;
+
+	/**
+	 * This flag specifies whether gap tree corresponds to the intervals or has to be rebuilt
+	 * by the next search.
+	 */
+	private transient boolean gapTreeIsValid;
+
+	/**
+	 * Main constructor. Creates empty timeline.
+	 */
+	public Timeline() {
+		starts = new int[DEFAULT_CAPACITY];
+		ends = new int[DEFAULT_CAPACITY];
+		values = new Object[DEFAULT_CAPACITY];
+	}
+
+	/**
+	 * Assigns the value to the specified interval of tacts. Previous values of these tacts are replaced.
+	 * @param start first tact
+	 * @param end tact after the last one
+	 * @param value value to assign
+	 */
+	public void set(int start, int end, V value) {
+		update(start, end, value);
+	}
+
+	/**
+	 * Makes the specified interval of tacts free.
+	 * @param start first tact
+	 * @param end tact after the last one
+	 */
+	public void remove(int start, int end) {
+		update(start, end, null);
+	}
+
+	/**
+	 * Returns the value assigned to the specified tact.
+	 * @param time tact number
+	 * @return assigned value or null if tact is free
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(int time) {
+		int i = findFirstEndingAfter(time);
+		if ((i < size) && (starts[i] <= time)) {
+			return (V)values[i];
+		}
+		return null;
+	}
+
+	/**
+	 * Checks whether at least one tact of the specified interval is busy.
+	 * @param start first tact
+	 * @param end tact after the last one
+	 * @return true if interval is busy
+	 */
+	public boolean isBusy(int start, int end) {
+		if (start >= end) {
+			return false;
+		}
+		int i = findFirstEndingAfter(start);
+		return (i < size) && (starts[i] < end);
+	}
+
+	/**
+	 * Checks whether at least one tact of the specified interval has the specified value.
+	 * @param start first tact
+	 * @param end tact after the last one
+	 * @param value value to check
+	 * @return true if interval is busy with the value
+	 */
+	public boolean isBusy(int start, int end, V value) {
+		if (start >= end) {
+			return false;
+		}
+		for (int i = findFirstEndingAfter(start); (i < size) && (starts[i] < end); i++) {
+			if (values[i].equals(value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Searches for the first free window of the specified length, which starts at or after
+	 * the specified tact.
+	 * @param time the earliest start tact of the window
+	 * @param length window length in tacts
+	 * @return start tact of the found window
+	 */
+	public int findFreeWindow(int time, int length) {
+		if (length <= 0) {
+			return time;
+		}
+		int i = findFirstEndingAfter(time);
+		if ((i == size) || (starts[i] >= time + length)) {
+			return time;
+		}
+		return ends[findFirstGap(i, length)];
+	}
+
+	/**
+	 * Accessor to the size field.
+	 * @return number of the intervals
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns start tact of the interval.
+	 * @param i interval number
+	 * @return first tact
+	 */
+	public int getStart(int i) {
+		return starts[i];
+	}
+
+	/**
+	 * Returns end tact of the interval.
+	 * @param i interval number
+	 * @return tact after the last one
+	 */
+	public int getEnd(int i) {
+		return ends[i];
+	}
+
+	/**
+	 * Returns the value of the interval.
+	 * @param i interval number
+	 * @return interval value
+	 */
+	@SuppressWarnings("unchecked")
+	public V getValue(int i) {
+		return (V)values[i];
+	}
+
+	/**
+	 * Returns the tact after the last busy one.
+	 * @return end of the last interval or 0 if timeline is empty
+	 */
+	public int getLastEnd() {
+		if (size == 0) {
+			return 0;
+		}
+		return ends[size - 1];
+	}
+
+	/**
+	 * Removes all the intervals.
+	 */
+	public void clear() {
+		Arrays.fill(values, 0, size, null);
+		size = 0;
+		gapTreeIsValid = false;
+	}
+
+	/**
+	 * Assigns the value to the specified interval of tacts or makes it free.
+	 * @param start first tact
+	 * @param end tact after the last one
+	 * @param value value to assign or null to make interval free
+	 */
+	private void update(int start, int end, Object value) {
+		if (start >= end) {
+			return;
+		}
+		int first = findFirstEndingAfter(start);
+		int last = findFirstStartingFrom(end) - 1;
+		int[] newStarts = new int[3];
+		int[] newEnds = new int[3];
+		Object[] newValues = new Object[3];
+		int count = 0;
+
+		if ((first <= last) && (starts[first] < start)) {
+			newStarts[count] = starts[first];
+			newEnds[count] = start;
+			newValues[count++] = values[first];
+		}
+		if (value != null) {
+			newStarts[count] = start;
+			newEnds[count] = end;
+			newValues[count++] = value;
+		}
+		if ((first <= last) && (ends[last] > end)) {
+			newStarts[count] = end;
+			newEnds[count] = ends[last];
+			newValues[count++] = values[last];
+		}
+
+		if (value != null) {
+			if ((first > 0) && (ends[first - 1] == newStarts[0]) && values[first - 1].equals(newValues[0])) {
+				first--;
+				newStarts[0] = starts[first];
+			}
+			if ((last + 1 < size) && (starts[last + 1] == newEnds[count - 1])
+					&& values[last + 1].equals(newValues[count - 1])) {
+				last++;
+				newEnds[count - 1] = ends[last];
+			}
+
+			int merged = 0;
+			for (int i = 1; i < count; i++) {
+				if (newValues[i].equals(newValues[merged])) {
+					newEnds[merged] = newEnds[i];
+				} else {
+					merged++;
+					newStarts[merged] = newStarts[i];
+					newEnds[merged] = newEnds[i];
+					newValues[merged] = newValues[i];
+				}
+			}
+			count = merged + 1;
+		}
+		replace(first, last + 1, newStarts, newEnds, newValues, count);
+	}
+
+	/**
+	 * Searches for the first interval, which ends after the specified tact.
+	 * @param time tact number
+	 * @return interval number or size if there is no such interval
+	 */
+	private int findFirstEndingAfter(int time) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (ends[middle] <= time) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Searches for the first interval, which starts not before the specified tact.
+	 * @param time tact number
+	 * @return interval number or size if there is no such interval
+	 */
+	private int findFirstStartingFrom(int time) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (starts[middle] < time) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Searches for the first interval starting from the specified one, which is followed
+	 * by the gap not shorter than the specified length.
+	 * @param from first interval to check
+	 * @param length minimum gap length
+	 * @return interval number
+	 */
+	private int findFirstGap(int from, int length) {
+		if (!gapTreeIsValid) {
+			buildGapTree();
+		}
+		int node = gapTreeLeaves + from;
+		if (gapTree[node] >= length) {
+			return from;
+		}
+		while (true) {
+			if (((node & 1) == 0) && (gapTree[node + 1] >= length)) {
+				node++;
+				break;
+			}
+			node >>>= 1;
+		}
+		while (node < gapTreeLeaves) {
+			node <<= 1;
+			if (gapTree[node] < length) {
+				node++;
+			}
+		}
+		return node - gapTreeLeaves;
+	}
+
+	/**
+	 * Builds the tree of the maximum gaps between the intervals.
+	 */
+	private void buildGapTree() {
+		int leaves = 1;
+		while (leaves < size) {
+			leaves <<= 1;
+		}
+		if ((gapTree == null) || (gapTree.length < 2 * leaves)) {
+			gapTree = new int[2 * leaves];
+		}
+		gapTreeLeaves = leaves;
+
+		for (int i = 0; i < leaves; i++) {
+			gapTree[leaves + i] = calculateGap(i);
+		}
+		for (int node = leaves - 1; node > 0; node--) {
+			gapTree[node] = Math.max(gapTree[2 * node], gapTree[2 * node + 1]);
+		}
+		gapTreeIsValid = true;
+	}
+
+	/**
+	 * Updates the specified leaves of the gap tree and their ancestors.
+	 * @param from first interval, which gap is changed
+	 * @param to interval after the last one, which gap is changed
+	 */
+	private void updateGapTree(int from, int to) {
+		if (from >= to) {
+			return;
+		}
+		for (int i = from; i < to; i++) {
+			gapTree[gapTreeLeaves + i] = calculateGap(i);
+		}
+		int low = (gapTreeLeaves + from) >>> 1;
+		int high = (gapTreeLeaves + to - 1) >>> 1;
+		while (low > 0) {
+			for (int node = low; node <= high; node++) {
+				gapTree[node] = Math.max(gapTree[2 * node], gapTree[2 * node + 1]);
+			}
+			low >>>= 1;
+			high >>>= 1;
+		}
+	}
+
+	/**
+	 * Calculates the value of the gap tree leaf.
+	 * @param i interval number
+	 * @return gap after the interval, Integer.MAX_VALUE after the last one or -1 if there is no such interval
+	 */
+	private int calculateGap(int i) {
+		if (i < size - 1) {
+			return starts[i + 1] - ends[i];
+		} else if (i == size - 1) {
+			return Integer.MAX_VALUE;
+		}
+		return -1;
+	}
+
+	/**
+	 * Replaces the intervals from the specified range with the new ones.
+	 * @param from first interval to replace
+	 * @param to interval after the last one to replace
+	 * @param newStarts start tacts of the new intervals
+	 * @param newEnds end tacts of the new intervals
+	 * @param newValues values of the new intervals
+	 * @param count number of the new intervals
+	 */
+	private void replace(int from, int to, int[] newStarts, int[] newEnds, Object[] newValues, int count) {
+		int newSize = size - (to - from) + count;
+		if (newSize > starts.length) {
+			int capacity = Math.max(newSize, starts.length * 2);
+			starts = Arrays.copyOf(starts, capacity);
+			ends = Arrays.copyOf(ends, capacity);
+			values = Arrays.copyOf(values, capacity);
+		}
+		int tail = size - to;
+		System.arraycopy(starts, to, starts, from + count, tail);
+		System.arraycopy(ends, to, ends, from + count, tail);
+		System.arraycopy(values, to, values, from + count, tail);
+		System.arraycopy(newStarts, 0, starts, from, count);
+		System.arraycopy(newEnds, 0, ends, from, count);
+		System.arraycopy(newValues, 0, values, from, count);
+		for (int i = newSize; i < size; i++) {
+			values[i] = null;
+		}
+		int oldSize = size;
+		size = newSize;
+
+		if (gapTreeIsValid) {
+			if (newSize > gapTreeLeaves) {
+				gapTreeIsValid = false;
+			} else if (newSize == oldSize) {
+				updateGapTree(Math.max(from - 1, 0), Math.min(from + count, newSize));
+			} else {
+				updateGapTree(Math.max(from - 1, 0), Math.max(oldSize, newSize));
+			}
+		}
+	}
+}